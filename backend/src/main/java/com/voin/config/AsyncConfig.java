@@ -0,0 +1,73 @@
+package com.voin.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 비동기 작업용 스레드 풀 설정
+ */
+@Slf4j
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 기본 비동기 실행 풀 (Spring MVC 비동기 요청, 이름 없는 @Async)
+     * 아래처럼 Executor 빈을 직접 등록하면 Boot 가 applicationTaskExecutor 를 만들지 않아
+     * MVC 가 요청마다 스레드를 새로 만드는 SimpleAsyncTaskExecutor 로 돌아가므로 직접 등록합니다.
+     * (Mono/SSE 응답은 GPT 를 기다리는 동안 스레드를 쓰지 않으므로 작은 풀로 충분)
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public ThreadPoolTaskExecutor applicationTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("app-task-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 프로필 이미지 썸네일 생성 풀
+     * 이미지 처리는 CPU 를 많이 쓰므로 작은 고정 크기로 두고, 큐가 가득 차면 작업을 버립니다.
+     * (요청 스레드가 막히지 않도록 CallerRuns 를 쓰지 않음. 썸네일이 없으면 원본으로 대체됩니다)
+     */
+    @Bean(name = "imageVariantExecutor")
+    public Executor imageVariantExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setRejectedExecutionHandler((task, pool) ->
+                log.warn("Image variant queue is full, task dropped"));
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 스토리 분류 작업 워커 풀
+     * ClassificationWorker 가 빈 슬롯만큼만 작업을 가져와 넘기므로 큐가 넘치지 않습니다.
+     * GPT 응답을 기다리는 동안 스레드가 묶이므로 워커 수가 곧 분류 동시 처리량입니다.
+     */
+    @Bean(name = "classificationExecutor")
+    public ThreadPoolTaskExecutor classificationExecutor(
+            @Value("${voin.classification.workers:4}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers);
+        executor.setThreadNamePrefix("classification-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
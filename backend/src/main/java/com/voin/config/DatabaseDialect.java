@@ -0,0 +1,39 @@
+package com.voin.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * 연결된 DB 종류 (네이티브 SQL 분기용)
+ *
+ * 운영 DB 는 PostgreSQL 이고 로컬/테스트는 H2 로도 뜹니다.
+ * 동시 INSERT 에도 안전한 upsert 는 PostgreSQL 에서 INSERT ... ON CONFLICT 로,
+ * 그 밖의 DB 에서는 표준 MERGE 로 실행합니다.
+ */
+@Slf4j
+@Component
+public class DatabaseDialect {
+
+    private final boolean postgres;
+
+    public DatabaseDialect(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            String product = connection.getMetaData().getDatabaseProductName();
+            this.postgres = "PostgreSQL".equalsIgnoreCase(product);
+            log.info("Database dialect: {}", product);
+        } catch (SQLException e) {
+            throw new IllegalStateException("DB 종류를 확인할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * PostgreSQL 이면 true (아니면 표준 MERGE 를 사용)
+     */
+    public boolean isPostgres() {
+        return postgres;
+    }
+}
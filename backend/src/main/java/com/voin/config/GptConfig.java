@@ -1,16 +1,26 @@
 package com.voin.config;
 
+import com.voin.http.OutboundHttpClients;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
 public class GptConfig {
+
     @Value("${openai.secret-key}")
     private String secretKey;
 
     @Value("${openai.model}")
     private String model;
 
+    // 테스트에서는 로컬 스텁 서버 주소로 바꿔 사용할 수 있습니다
+    @Value("${openai.base-url:https://api.openai.com/v1}")
+    private String baseUrl;
+
     public String getSecretKey() {
         return secretKey;
     }
@@ -18,4 +28,17 @@ public class GptConfig {
     public String getModel() {
         return model;
     }
+
+    /**
+     * OpenAI 호출용 논블로킹 WebClient
+     * 커넥션 풀, 타임아웃, 지표는 공용 외부 HTTP 클라이언트(openai 정책)를 따릅니다. (요청 스레드를 붙잡지 않음)
+     */
+    @Bean
+    public WebClient gptWebClient(OutboundHttpClients outboundHttpClients) {
+        return outboundHttpClients.webClient("openai")
+                .baseUrl(baseUrl)
+                .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .defaultHeaders(headers -> headers.setBearerAuth(secretKey))
+                .build();
+    }
 }
@@ -0,0 +1,26 @@
+package com.voin.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate 쓰기 배치 설정
+ *
+ * application.yml 에 같은 키가 있으면 그 값을 우선합니다.
+ * PostgreSQL 에서는 JDBC URL 에 reWriteBatchedInserts=true 를 함께 주면 다건 INSERT 로 합쳐집니다.
+ */
+@Configuration
+public class JpaConfig {
+
+    private static final String JDBC_BATCH_SIZE = "50";
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateBatchCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", JDBC_BATCH_SIZE);
+            properties.putIfAbsent("hibernate.order_inserts", "true");
+            properties.putIfAbsent("hibernate.order_updates", "true");
+        };
+    }
+}
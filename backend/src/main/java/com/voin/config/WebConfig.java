@@ -1,10 +1,30 @@
 package com.voin.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
     // Spring Boot의 기본 설정을 사용합니다.
     // static 리소스는 자동으로 처리됩니다.
-} 
\ No newline at end of file
+
+    private final ThreadPoolTaskExecutor applicationTaskExecutor;
+
+    public WebConfig(@Qualifier("applicationTaskExecutor") ThreadPoolTaskExecutor applicationTaskExecutor) {
+        this.applicationTaskExecutor = applicationTaskExecutor;
+    }
+
+    /**
+     * Mono/CompletableFuture 를 반환하는 비동기 요청의 타임아웃
+     * GPT 응답 타임아웃(60초)보다 길게 두어 컨테이너 기본값(30초)에 먼저 끊기지 않도록 합니다.
+     * 비동기 처리는 크기가 정해진 applicationTaskExecutor 에서 합니다. (요청마다 스레드를 만들지 않음)
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(75_000);
+        configurer.setTaskExecutor(applicationTaskExecutor);
+    }
+}
@@ -0,0 +1,8 @@
+package com.voin.constant;
+
+public enum ClassificationJobStatus {
+    PENDING,    // 처리 대기 중 (재시도 대기 포함)
+    RUNNING,    // 워커가 처리 중
+    DONE,       // 분류 완료
+    FAILED      // 재시도 횟수 초과로 실패
+}
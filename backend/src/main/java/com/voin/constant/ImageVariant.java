@@ -0,0 +1,26 @@
+package com.voin.constant;
+
+/**
+ * 프로필 이미지 썸네일 규격
+ * 원본 파일명 뒤에 접미사를 붙여 같은 디렉토리에 JPEG 로 저장합니다. (abc.png → abc_s.jpg)
+ */
+public enum ImageVariant {
+    SMALL("s", 96),     // 피드, 검색 목록용
+    MEDIUM("m", 320);   // 프로필 화면용
+
+    private final String suffix;
+    private final int maxSize;
+
+    ImageVariant(String suffix, int maxSize) {
+        this.suffix = suffix;
+        this.maxSize = maxSize;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+}
@@ -7,7 +7,8 @@ import com.voin.entity.Member;
 import com.voin.repository.MemberRepository;
 import com.voin.security.JwtTokenProvider;
 import com.voin.service.KakaoAuthService;
-import com.voin.util.FriendCodeGenerator;
+import com.voin.search.NicknameIndex;
+import com.voin.util.FriendCodePool;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -33,7 +34,8 @@ public class AuthController {
     private final KakaoAuthService kakaoAuthService;
     private final MemberRepository memberRepository;
     private final JwtTokenProvider jwtTokenProvider;
-    private final FriendCodeGenerator friendCodeGenerator;
+    private final FriendCodePool friendCodePool;
+    private final NicknameIndex nicknameIndex;
 
     // ✅ 프론트 콜백 URL을 환경설정에서 주입 (기본값: https://localhost:5174/auth/callback)
     @Value("${app.frontend-callback-uri:https://localhost:5174/api/auth/kakao/callback}")
@@ -73,18 +75,16 @@ public class AuthController {
                 String nickname = (String) userInfo.getOrDefault("nickname", "카카오사용자");
                 String profileImage = (String) userInfo.getOrDefault("profile_image", null);
 
-                String friendCode;
-                do { friendCode = friendCodeGenerator.generate(); }
-                while (memberRepository.existsByFriendCode(friendCode));
-
-                return memberRepository.save(
+                Member saved = friendCodePool.claimAndSave(friendCode -> memberRepository.save(
                         Member.builder()
                                 .kakaoId(kakaoId)
                                 .nickname(nickname)
                                 .profileImage(profileImage)
                                 .friendCode(friendCode)
                                 .build()
-                );
+                ));
+                nicknameIndex.index(saved);
+                return saved;
             });
 
             // 4) JWT 발급
@@ -135,18 +135,16 @@ public class AuthController {
                 String nickname = (String) userInfo.getOrDefault("nickname", "카카오사용자");
                 String profileImage = (String) userInfo.getOrDefault("profile_image", null);
 
-                String friendCode;
-                do { friendCode = friendCodeGenerator.generate(); }
-                while (memberRepository.existsByFriendCode(friendCode));
-
-                return memberRepository.save(
+                Member saved = friendCodePool.claimAndSave(friendCode -> memberRepository.save(
                         Member.builder()
                                 .kakaoId(kakaoId)
                                 .nickname(nickname)
                                 .profileImage(profileImage)
                                 .friendCode(friendCode)
                                 .build()
-                );
+                ));
+                nicknameIndex.index(saved);
+                return saved;
             });
 
             String jwtToken = jwtTokenProvider.createToken(member.getId().toString());
@@ -1,9 +1,12 @@
 package com.voin.controller;
 
+import com.voin.dto.request.CardBatchCreateRequest;
 import com.voin.dto.request.CardCreateRequest;
 import com.voin.dto.request.CardVisibilityUpdateRequest;
 import com.voin.dto.response.ApiResponse;
 import com.voin.dto.response.CardResponse;
+import com.voin.dto.response.CursorPageResponse;
+import com.voin.dto.response.MyCardResponse;
 import com.voin.entity.Card;
 import com.voin.service.CardService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -18,7 +21,6 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.util.List;
-import java.util.Map;
 
 @Slf4j
 @RestController
@@ -41,6 +43,18 @@ public class CardController {
         return ResponseEntity.ok(ApiResponse.success("카드가 생성되었습니다.", card));
     }
 
+    /**
+     * 카드 일괄 생성
+     */
+    @Operation(summary = "카드 일괄 생성", description = "여러 스토리의 카드를 한 트랜잭션으로 생성합니다. 하나라도 실패하면 전체가 취소됩니다. (최대 100개)")
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<CardResponse>>> createCards(
+            @Valid @RequestBody CardBatchCreateRequest request) {
+        log.info("Creating cards in batch: count={}", request.getCards().size());
+        List<CardResponse> cards = cardService.createCardsFromStories(request.getCards());
+        return ResponseEntity.ok(ApiResponse.success("카드가 일괄 생성되었습니다.", cards));
+    }
+
     /**
      * 특정 카드 조회
      */
@@ -58,9 +72,9 @@ public class CardController {
      */
     @Operation(summary = "내 카드 목록", description = "현재 사용자가 소유한 모든 카드를 조회합니다.")
     @GetMapping("/my-cards")
-    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getMyCards() {
+    public ResponseEntity<ApiResponse<List<MyCardResponse>>> getMyCards() {
         log.info("Getting my cards");
-        List<Map<String, Object>> cards = cardService.getMyCardsWithStoryData();
+        List<MyCardResponse> cards = cardService.getMyCardsWithStoryData();
         return ResponseEntity.ok(ApiResponse.success("내 카드 목록을 조회했습니다.", cards));
     }
 
@@ -76,6 +90,32 @@ public class CardController {
         return ResponseEntity.ok(ApiResponse.success("공개 카드 목록을 조회했습니다.", cards));
     }
 
+    /**
+     * 공개 카드 목록 조회 (커서 기반 무한 스크롤)
+     */
+    @Operation(summary = "공개 카드 목록 (커서)", description = "커서 기반으로 공개 카드를 최신순으로 조회합니다. 응답의 nextCursor 를 다음 요청에 전달하세요.")
+    @GetMapping("/public/cursor")
+    public ResponseEntity<ApiResponse<CursorPageResponse<CardResponse>>> getPublicCardsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        log.info("Getting public cards by cursor: size={}", size);
+        CursorPageResponse<CardResponse> cards = cardService.getPublicCardsByCursor(cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("공개 카드 목록을 조회했습니다.", cards));
+    }
+
+    /**
+     * 공개 카드 내용 검색
+     */
+    @Operation(summary = "공개 카드 검색", description = "공개 카드 내용을 검색어로 검색합니다. 관련도 순으로 정렬됩니다.")
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<CardResponse>>> searchPublicCards(
+            @Parameter(description = "검색어") @RequestParam String q,
+            @Parameter(description = "최대 결과 수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        log.info("Searching public cards: q={}, size={}", q, size);
+        List<CardResponse> cards = cardService.searchPublicCards(q, size);
+        return ResponseEntity.ok(ApiResponse.success("카드 검색이 완료되었습니다.", cards));
+    }
+
     /**
      * 카드 공개/비공개 설정
      */
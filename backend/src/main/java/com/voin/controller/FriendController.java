@@ -2,6 +2,7 @@ package com.voin.controller;
 
 import com.voin.dto.request.FriendRequestDto;
 import com.voin.dto.response.ApiResponse;
+import com.voin.dto.response.CursorPageResponse;
 import com.voin.dto.response.FriendRequestResponse;
 import com.voin.dto.response.FriendCardResponse;
 import com.voin.service.FriendService;
@@ -73,6 +74,17 @@ public class FriendController {
         return ApiResponse.success(friendService.getFriendsFeed());
     }
 
+    /**
+     * 친구 피드 조회 (커서 기반 무한 스크롤)
+     */
+    @Operation(summary = "친구 피드 조회 (커서)", description = "친구들의 공개 카드를 최신순으로 조회합니다. 응답의 nextCursor 를 다음 요청에 전달하세요.")
+    @GetMapping("/feed/cursor")
+    public ApiResponse<CursorPageResponse<FriendCardResponse>> getFriendsFeedByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        return ApiResponse.success(friendService.getFriendsFeedByCursor(cursor, size));
+    }
+
     // 친구 삭제
     @Operation(summary = "친구 삭제", description = "친구를 삭제합니다.")
     @DeleteMapping("/{friendMemberId}")
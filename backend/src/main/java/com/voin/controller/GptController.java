@@ -1,29 +1,138 @@
 package com.voin.controller;
 
+import com.voin.dto.request.GptClassifyBatchRequest;
 import com.voin.dto.response.ApiResponse;
+import com.voin.dto.response.GptClassifyBatchItem;
+import com.voin.exception.GptRejectedException;
+import com.voin.http.OutboundHttpMetrics;
+import com.voin.resilience.GptGuard;
+import com.voin.security.CurrentMemberResolver;
+import com.voin.service.GptBatchService;
 import com.voin.service.GptService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/gpt")
 public class GptController {
 
     private final GptService gptService;
+    private final GptBatchService gptBatchService;
+    private final GptGuard gptGuard;
+    private final OutboundHttpMetrics outboundHttpMetrics;
+    private final CurrentMemberResolver currentMemberResolver;
 
+    // GPT 응답을 기다리는 동안 서블릿 스레드를 반환하도록 Mono 로 응답 (비동기 요청 처리)
     @PostMapping("/classify")
-    public ResponseEntity<ApiResponse<Map<String, String>>> classify(@RequestBody String userInput) {
-        Map<String, String> result = gptService.classifyValue(userInput);
-        return ResponseEntity.ok(ApiResponse.success("분류가 완료되었습니다.", result));
+    public Mono<ResponseEntity<ApiResponse<Map<String, String>>>> classify(
+            @RequestBody String userInput, HttpServletRequest request) {
+        String clientKey = clientKey(request);
+        return Mono.defer(() -> {
+                    gptGuard.checkRateLimit("classify", clientKey);
+                    return gptService.classifyValue(userInput);
+                })
+                .map(result -> ResponseEntity.ok(ApiResponse.success("분류가 완료되었습니다.", result)))
+                .onErrorResume(GptRejectedException.class, e -> Mono.just(ResponseEntity.status(e.getStatus())
+                        .body(ApiResponse.error(e.getMessage(), e.getErrorCode()))));
+    }
+
+    /**
+     * 여러 스토리(또는 글)를 한 번에 분류 (로그인 필요, 결과는 요청 순서, 항목별 성공/실패 포함)
+     * 요청 한도는 요청 단위가 아니라 실제로 분류할 입력마다 차감합니다. (GptBatchService)
+     */
+    @PostMapping("/classify/batch")
+    public Mono<ResponseEntity<ApiResponse<List<GptClassifyBatchItem>>>> classifyBatch(
+            @Valid @RequestBody GptClassifyBatchRequest batchRequest) {
+        return Mono.defer(() -> gptBatchService.classifyBatch(batchRequest))
+                .map(items -> ResponseEntity.ok(ApiResponse.success("일괄 분류가 완료되었습니다.", items)))
+                .onErrorResume(GptRejectedException.class, e -> Mono.just(ResponseEntity.status(e.getStatus())
+                        .body(ApiResponse.error(e.getMessage(), e.getErrorCode()))));
     }
 
     @PostMapping("/summarize")
-    public String summarize(@RequestBody String userInput) {
-        return gptService.summarizeOnly(userInput);
+    public Mono<ResponseEntity<String>> summarize(@RequestBody String userInput, HttpServletRequest request) {
+        String clientKey = clientKey(request);
+        return Mono.defer(() -> {
+                    gptGuard.checkRateLimit("summarize", clientKey);
+                    return gptService.summarizeOnly(userInput);
+                })
+                .map(ResponseEntity::ok)
+                .onErrorResume(GptRejectedException.class, e -> Mono.just(ResponseEntity.status(e.getStatus())
+                        .body(e.getMessage())));
+    }
+
+    /**
+     * 요약 스트리밍 (SSE, 브라우저 EventSource 용)
+     * token 이벤트로 요약 조각을 도착하는 대로 보내고, 끝나면 done, 실패하면 error 이벤트를 보냅니다.
+     */
+    @GetMapping(value = "/summarize/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> summarizeStream(@RequestParam String text, HttpServletRequest request) {
+        return streamSummary(text, clientKey(request));
     }
 
+    /**
+     * 요약 스트리밍 (SSE, 긴 본문은 POST 로 전달)
+     */
+    @PostMapping(value = "/summarize/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> summarizeStreamByBody(@RequestBody String userInput, HttpServletRequest request) {
+        return streamSummary(userInput, clientKey(request));
+    }
+
+    /**
+     * 엔드포인트별 요청 한도/동시 호출/서킷 브레이커 지표 (관리자 전용)
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> metrics() {
+        return ResponseEntity.ok(ApiResponse.success("GPT 호출 지표를 조회했습니다.", gptGuard.metrics()));
+    }
+
+    /**
+     * 외부 HTTP 호출(OpenAI, Kakao) 클라이언트/호스트별 지연, 오류, 재시도 지표 (관리자 전용)
+     */
+    @GetMapping("/metrics/http")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> outboundHttpMetrics() {
+        return ResponseEntity.ok(ApiResponse.success("외부 HTTP 호출 지표를 조회했습니다.", outboundHttpMetrics.snapshot()));
+    }
+
+    private Flux<ServerSentEvent<String>> streamSummary(String userInput, String clientKey) {
+        return Flux.defer(() -> {
+                    gptGuard.checkRateLimit("summarize", clientKey);
+                    return gptService.summarizeStream(userInput);
+                })
+                .map(token -> ServerSentEvent.builder(token).event("token").build())
+                .concatWith(Mono.just(ServerSentEvent.builder("").event("done").build()))
+                .onErrorResume(e -> {
+                    String message;
+                    if (e instanceof GptRejectedException) {
+                        message = e.getMessage();
+                    } else {
+                        log.error("GPT 스트리밍 요약 실패", e);
+                        message = "요약 중 오류가 발생했습니다.";
+                    }
+                    return Mono.just(ServerSentEvent.builder(message).event("error").build());
+                });
+    }
+
+    /**
+     * 요청 한도 기준 (로그인했으면 회원 ID, 아니면 IP)
+     */
+    private String clientKey(HttpServletRequest request) {
+        return currentMemberResolver.findCurrentMemberId()
+                .map(UUID::toString)
+                .orElseGet(() -> "ip:" + request.getRemoteAddr());
+    }
 }
@@ -11,8 +11,10 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.validation.Valid;
 import java.util.List;
@@ -52,12 +54,13 @@ public class MemberController {
     /**
      * 회원 검색 (닉네임)
      */
-    @Operation(summary = "회원 검색", description = "닉네임으로 회원을 검색합니다.")
+    @Operation(summary = "회원 검색", description = "닉네임으로 회원을 검색합니다. 접두/부분 일치와 초성 검색을 지원합니다.")
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<List<MemberResponse>>> searchMembers(
-            @Parameter(description = "검색할 닉네임") @RequestParam String nickname) {
-        log.info("Searching members by nickname: {}", nickname);
-        List<MemberResponse> members = memberService.searchByNickname(nickname);
+            @Parameter(description = "검색할 닉네임 (초성 검색 가능, 예: ㄱㅊㅅ)") @RequestParam String nickname,
+            @Parameter(description = "최대 결과 수 (최대 50)") @RequestParam(defaultValue = "20") int size) {
+        log.info("Searching members by nickname: {}, size={}", nickname, size);
+        List<MemberResponse> members = memberService.searchByNickname(nickname, size);
         return ResponseEntity.ok(ApiResponse.success("회원 검색이 완료되었습니다.", members));
     }
 
@@ -103,7 +106,7 @@ public class MemberController {
      * 프로필 이미지만 변경
      */
     @Operation(summary = "프로필 이미지 변경", description = "현재 로그인한 사용자의 프로필 이미지만 변경합니다.")
-    @PutMapping("/me/profile-image")
+    @PutMapping(value = "/me/profile-image", consumes = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<ApiResponse<MemberResponse>> updateMyProfileImage(
             @Valid @RequestBody ProfileImageUpdateRequest request) {
         log.info("Updating current member profile image to: {}", request.getProfileImage());
@@ -114,6 +117,18 @@ public class MemberController {
         return ResponseEntity.ok(ApiResponse.success("프로필 이미지가 변경되었습니다.", member));
     }
 
+    /**
+     * 프로필 이미지 파일 업로드
+     */
+    @Operation(summary = "프로필 이미지 업로드", description = "이미지 파일(jpg, jpeg, png, gif, 최대 5MB)을 multipart 로 업로드하여 프로필 이미지를 변경합니다.")
+    @PutMapping(value = "/me/profile-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<MemberResponse>> uploadMyProfileImage(
+            @Parameter(description = "프로필 이미지 파일") @RequestPart("image") MultipartFile image) {
+        log.info("Uploading current member profile image: name={}, size={}", image.getOriginalFilename(), image.getSize());
+        MemberResponse member = memberService.updateMyProfileImage(image);
+        return ResponseEntity.ok(ApiResponse.success("프로필 이미지가 변경되었습니다.", member));
+    }
+
     /**
      * 내 통계 정보 조회
      */
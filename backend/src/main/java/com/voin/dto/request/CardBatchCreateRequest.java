@@ -0,0 +1,19 @@
+package com.voin.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "카드 일괄 생성 요청")
+public class CardBatchCreateRequest {
+
+    @Schema(description = "생성할 카드 목록 (최대 100개)")
+    @NotEmpty(message = "생성할 카드 목록은 필수입니다")
+    @Size(max = 100, message = "한 번에 최대 100개의 카드만 생성할 수 있습니다")
+    private List<@Valid CardCreateRequest> cards;
+}
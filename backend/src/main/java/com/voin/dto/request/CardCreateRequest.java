@@ -16,8 +16,7 @@ public class CardCreateRequest {
     @NotNull(message = "코인 ID는 필수입니다")
     private Long coinId;
 
-    @Schema(description = "키워드 ID", example = "1")
-    @NotNull(message = "키워드 ID는 필수입니다")
+    @Schema(description = "키워드 ID (생략하면 스토리의 분류 결과 키워드 사용, 일괄 생성에서는 필수)", example = "1")
     private Long keywordId;
 
     @Schema(description = "공개 여부", example = "true")
@@ -0,0 +1,35 @@
+package com.voin.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "GPT 일괄 분류 요청 (storyIds 또는 texts 중 하나)")
+public class GptClassifyBatchRequest {
+
+    @Schema(description = "분류할 내 스토리 ID 목록 (최대 100개)")
+    @Size(max = 100, message = "한 번에 최대 100개까지 분류할 수 있습니다")
+    private List<Long> storyIds;
+
+    @Schema(description = "분류할 글 목록 (최대 100개)")
+    @Size(max = 100, message = "한 번에 최대 100개까지 분류할 수 있습니다")
+    private List<@NotBlank(message = "분류할 글은 비어 있을 수 없습니다") String> texts;
+
+    @Schema(description = "동시에 진행할 분류 수 (서버 최대값으로 제한됨)", example = "4")
+    @Min(value = 1, message = "동시 분류 수는 1 이상이어야 합니다")
+    private Integer parallelism;
+
+    @Schema(hidden = true)
+    @AssertTrue(message = "storyIds 와 texts 중 하나만 입력해야 합니다")
+    public boolean isSingleSource() {
+        boolean hasStories = storyIds != null && !storyIds.isEmpty();
+        boolean hasTexts = texts != null && !texts.isEmpty();
+        return hasStories != hasTexts;
+    }
+}
@@ -1,11 +1,20 @@
 package com.voin.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.voin.dto.common.GptMessage;
 import lombok.Data;
 import java.util.List;
+import java.util.Map;
 
 @Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class GptRequest {
     private String model;
     private List<GptMessage> messages;
-}
\ No newline at end of file
+    // true 면 응답을 SSE 로 조금씩 받음 (스트리밍 요약)
+    private Boolean stream;
+    // {"type": "json_object"} 이면 응답 본문이 항상 JSON 객체 (분류)
+    @JsonProperty("response_format")
+    private Map<String, String> responseFormat;
+}
@@ -0,0 +1,25 @@
+package com.voin.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@Schema(description = "커서 기반 페이지 응답")
+public class CursorPageResponse<T> {
+
+    @Schema(description = "조회된 항목 목록")
+    private List<T> content;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부")
+    private boolean hasNext;
+
+    @Schema(description = "요청한 페이지 크기")
+    private int size;
+}
@@ -1,6 +1,8 @@
 package com.voin.dto.response;
 
+import com.voin.constant.ImageVariant;
 import com.voin.entity.Card;
+import com.voin.util.ImageUtil;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Data;
@@ -20,6 +22,12 @@ public class FriendCardResponse {
     
     @Schema(description = "작성자 닉네임")
     private String memberNickname;
+
+    @Schema(description = "작성자 프로필 이미지 (원본)")
+    private String memberProfileImage;
+
+    @Schema(description = "작성자 프로필 이미지 썸네일 (외부 이미지면 null)")
+    private String memberProfileImageSmall;
     
     @Schema(description = "카드 내용")
     private String content;
@@ -29,4 +37,17 @@ public class FriendCardResponse {
     
     @Schema(description = "생성 시간")
     private LocalDateTime createdAt;
-} 
\ No newline at end of file
+
+    public static FriendCardResponse from(Card card) {
+        return FriendCardResponse.builder()
+                .cardId(card.getId())
+                .memberId(card.getOwner().getId().toString())
+                .memberNickname(card.getOwner().getNickname())
+                .memberProfileImage(card.getOwner().getProfileImage())
+                .memberProfileImageSmall(ImageUtil.variantUrl(card.getOwner().getProfileImage(), ImageVariant.SMALL))
+                .content(card.getContent())
+                .coinType(card.getCoinName())
+                .createdAt(card.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.voin.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@Schema(description = "GPT 일괄 분류 결과 항목 (요청 순서와 같음)")
+public class GptClassifyBatchItem {
+
+    @Schema(description = "요청 목록에서의 위치 (0부터)")
+    private int index;
+
+    @Schema(description = "스토리 ID (texts 로 요청했으면 null)")
+    private Long storyId;
+
+    @Schema(description = "분류 성공 여부")
+    private boolean success;
+
+    @Schema(description = "분류 결과 (category, keyword, summary)")
+    private Map<String, String> result;
+
+    @Schema(description = "실패 사유")
+    private String error;
+}
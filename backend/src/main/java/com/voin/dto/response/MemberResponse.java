@@ -1,6 +1,8 @@
 package com.voin.dto.response;
 
+import com.voin.constant.ImageVariant;
 import com.voin.entity.Member;
+import com.voin.util.ImageUtil;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,6 +21,8 @@ public class MemberResponse {
     private String kakaoId;
     private String nickname;
     private String profileImage;
+    private String profileImageSmall;   // 목록용 썸네일 (외부 이미지면 null)
+    private String profileImageMedium;  // 프로필 화면용 썸네일 (외부 이미지면 null)
     private String friendCode;
     private Boolean isActive;
     private LocalDateTime createdAt;
@@ -30,6 +34,8 @@ public class MemberResponse {
                 .kakaoId(member.getKakaoId())
                 .nickname(member.getNickname())
                 .profileImage(member.getProfileImage())
+                .profileImageSmall(ImageUtil.variantUrl(member.getProfileImage(), ImageVariant.SMALL))
+                .profileImageMedium(ImageUtil.variantUrl(member.getProfileImage(), ImageVariant.MEDIUM))
                 .friendCode(member.getFriendCode())
                 .isActive(member.getIsActive())
                 .createdAt(member.getCreatedAt())
@@ -42,6 +48,8 @@ public class MemberResponse {
                 .id(member.getId())
                 .nickname(member.getNickname())
                 .profileImage(member.getProfileImage())
+                .profileImageSmall(ImageUtil.variantUrl(member.getProfileImage(), ImageVariant.SMALL))
+                .profileImageMedium(ImageUtil.variantUrl(member.getProfileImage(), ImageVariant.MEDIUM))
                 .isActive(member.getIsActive())
                 .createdAt(member.getCreatedAt())
                 .build();
@@ -0,0 +1,138 @@
+package com.voin.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.voin.constant.StoryType;
+import com.voin.entity.Card;
+import com.voin.entity.Coin;
+import com.voin.entity.Keyword;
+import com.voin.entity.Story;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 카드 목록(보관함) 응답
+ * 카드 + 키워드 + 코인 + 스토리 정보를 한 번에 담습니다.
+ */
+@Getter
+@Builder
+@Schema(description = "내 카드 응답 (스토리 정보 포함)")
+public class MyCardResponse {
+
+    @Schema(description = "카드 ID")
+    private Long id;
+
+    @Schema(description = "카드 내용")
+    private String content;
+
+    @Schema(description = "생성 시간")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "공개 여부")
+    private Boolean isPublic;
+
+    @Schema(description = "선물 여부")
+    private Boolean isGift;
+
+    @Schema(description = "상황 맥락")
+    private String situationContext;
+
+    @Schema(description = "키워드 정보")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private KeywordInfo keyword;
+
+    @Schema(description = "스토리 정보")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private StoryInfo story;
+
+    @Getter
+    @Builder
+    public static class KeywordInfo {
+        private Long id;
+        private String name;
+        private String description;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private CoinInfo coin;
+    }
+
+    @Getter
+    @Builder
+    public static class CoinInfo {
+        private Long id;
+        private String name;
+        private String description;
+        private String color;
+    }
+
+    @Getter
+    @Builder
+    public static class StoryInfo {
+        private Long id;
+        private String title;
+        private String content;
+        private String type;
+
+        // 경험 돌아보기인 경우에만 포함
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String answer1;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String answer2;
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private String situationContext;
+    }
+
+    /**
+     * 키워드/코인/스토리가 이미 함께 로딩된 카드로부터 응답을 생성합니다
+     */
+    public static MyCardResponse from(Card card) {
+        return MyCardResponse.builder()
+                .id(card.getId())
+                .content(card.getContent())
+                .createdAt(card.getCreatedAt())
+                .isPublic(card.getIsPublic())
+                .isGift(card.getIsGift())
+                .situationContext(card.getSituationContext())
+                .keyword(toKeywordInfo(card.getKeyword()))
+                .story(toStoryInfo(card.getStory()))
+                .build();
+    }
+
+    private static KeywordInfo toKeywordInfo(Keyword keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        Coin coin = keyword.getCoin();
+        return KeywordInfo.builder()
+                .id(keyword.getId())
+                .name(keyword.getName())
+                .description(keyword.getDescription())
+                .coin(coin == null ? null : CoinInfo.builder()
+                        .id(coin.getId())
+                        .name(coin.getName())
+                        .description(coin.getDescription())
+                        .color(coin.getColor())
+                        .build())
+                .build();
+    }
+
+    private static StoryInfo toStoryInfo(Story story) {
+        if (story == null) {
+            return null;
+        }
+        StoryInfo.StoryInfoBuilder builder = StoryInfo.builder()
+                .id(story.getId())
+                .title(story.getTitle())
+                .content(story.getContent())
+                .type(story.getStoryType().name());
+
+        if (story.getStoryType() == StoryType.EXPERIENCE_REFLECTION) {
+            builder.answer1(story.getAnswer1())
+                    .answer2(story.getAnswer2())
+                    .situationContext(story.getSituationContext());
+        }
+        return builder.build();
+    }
+}
@@ -1,9 +1,12 @@
 package com.voin.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -11,4 +14,10 @@ public class NotificationDto {
     private String type;       // 알림 종류 (예: FRIEND_REQUEST, COMMENT, SYSTEM 등)
     private String message;    // 알림 내용
     private long timestamp;    // 생성 시각 (System.currentTimeMillis())
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Map<String, Object> data; // 알림 종류별 추가 데이터 (선택)
+
+    public NotificationDto(String type, String message, long timestamp) {
+        this(type, message, timestamp, null);
+    }
 }
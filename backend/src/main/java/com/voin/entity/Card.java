@@ -22,7 +22,8 @@ import lombok.*;
            @Index(name = "idx_card_target_member_id", columnList = "target_member_id"),
            @Index(name = "idx_card_story_id", columnList = "story_id"),
            @Index(name = "idx_card_keyword_id", columnList = "keyword_id"),
-           @Index(name = "idx_card_public", columnList = "is_public")
+           @Index(name = "idx_card_public", columnList = "is_public"),
+           @Index(name = "idx_card_public_created_id", columnList = "is_public, created_at, id")
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -31,10 +32,13 @@ import lombok.*;
 public class Card extends BaseEntity {
 
     /**
-     * 카드 고유 식별자 (자동 증가 숫자 ID)
+     * 카드 고유 식별자 (시퀀스 기반 숫자 ID)
+     * IDENTITY 는 INSERT 배치를 막으므로 pooled 시퀀스로 ID 를 미리 할당받습니다.
+     * allocationSize 는 cards_id_seq 의 INCREMENT 값과 같아야 합니다. (database_schema.sql 참고)
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_id_generator")
+    @SequenceGenerator(name = "card_id_generator", sequenceName = "cards_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -0,0 +1,167 @@
+package com.voin.entity;
+
+import com.voin.constant.ClassificationJobStatus;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 스토리 장점 분류 작업 (DB 기반 작업 큐)
+ *
+ * 스토리 저장과 같은 트랜잭션에서 PENDING 으로 쌓이고, 워커가 SKIP LOCKED 로 가져가 RUNNING 으로 바꾼 뒤 처리합니다.
+ * 워커가 처리 도중 죽으면 lockedUntil 이 지난 작업을 다른 워커가 다시 가져갑니다.
+ * 스토리/회원과는 ID 로만 연결합니다.
+ */
+@Entity
+@Table(name = "classification_jobs",
+       indexes = {
+           @Index(name = "idx_classification_job_story_id", columnList = "story_id"),
+           @Index(name = "idx_classification_job_status_next_run", columnList = "status, next_run_at")
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ClassificationJob extends BaseEntity {
+
+    /**
+     * 작업 고유 식별자
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    /**
+     * 분류할 스토리 ID
+     */
+    @NotNull
+    @Column(name = "story_id", nullable = false)
+    private Long storyId;
+
+    /**
+     * 결과를 받을 회원 ID (스토리 작성자)
+     */
+    @NotNull
+    @Column(name = "member_id", nullable = false, columnDefinition = "uuid")
+    private UUID memberId;
+
+    /**
+     * 작업 상태
+     */
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private ClassificationJobStatus status = ClassificationJobStatus.PENDING;
+
+    /**
+     * 시도 횟수
+     */
+    @NotNull
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    /**
+     * 이 시각 이후에 처리 (재시도 대기)
+     */
+    @NotNull
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    /**
+     * 처리 중인 워커의 점유 만료 시각 (지나면 다른 워커가 다시 가져감)
+     */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    /**
+     * 사용자가 결과를 기다리는 작업인지 (스토리 저장 시 true, 백필은 false)
+     * 기다리는 작업을 먼저 처리하고, 완료/실패를 알림으로 보냅니다.
+     */
+    @NotNull
+    @Column(name = "interactive", nullable = false)
+    @Builder.Default
+    private Boolean interactive = true;
+
+    /**
+     * 마지막 실패 사유
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    // === 비즈니스 메서드 ===
+
+    /**
+     * 워커가 작업을 가져갑니다
+     */
+    public void start(LocalDateTime leaseUntil) {
+        this.status = ClassificationJobStatus.RUNNING;
+        this.attempts = attempts + 1;
+        this.lockedUntil = leaseUntil;
+    }
+
+    /**
+     * 작업을 완료합니다
+     */
+    public void complete() {
+        this.status = ClassificationJobStatus.DONE;
+        this.lockedUntil = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 나중에 다시 시도하도록 대기 상태로 돌립니다
+     */
+    public void retryAt(LocalDateTime nextRunAt, String error) {
+        this.status = ClassificationJobStatus.PENDING;
+        this.nextRunAt = nextRunAt;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 더 이상 시도하지 않고 실패로 끝냅니다
+     */
+    public void fail(String error) {
+        this.status = ClassificationJobStatus.FAILED;
+        this.lockedUntil = null;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > 500 ? error.substring(0, 500) : error;
+    }
+
+    // === 정적 팩토리 메서드 ===
+
+    /**
+     * 바로 처리할 분류 작업을 생성합니다
+     */
+    public static ClassificationJob of(Long storyId, UUID memberId) {
+        return ClassificationJob.builder()
+                .storyId(storyId)
+                .memberId(memberId)
+                .nextRunAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 기존 스토리 백필용 분류 작업을 생성합니다 (알림 없음, 낮은 우선순위)
+     */
+    public static ClassificationJob backfill(Long storyId, UUID memberId) {
+        return ClassificationJob.builder()
+                .storyId(storyId)
+                .memberId(memberId)
+                .nextRunAt(LocalDateTime.now())
+                .interactive(false)
+                .build();
+    }
+}
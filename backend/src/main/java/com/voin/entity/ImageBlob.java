@@ -0,0 +1,49 @@
+package com.voin.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+/**
+ * 내용 해시로 저장된 이미지 파일 메타데이터
+ *
+ * 같은 내용의 이미지는 파일 하나를 공유하며, 이 이미지를 프로필로 쓰는 회원 수를 참조 수로 관리합니다.
+ * 참조 수가 0 이 된 이미지는 유예 기간이 지나면 ImageStoreService 가 묶어서 삭제합니다.
+ */
+@Entity
+@Table(name = "image_blobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class ImageBlob extends BaseEntity {
+
+    /**
+     * 내용 SHA-256 (16진수 64자)
+     */
+    @Id
+    @Column(name = "hash", length = 64)
+    private String hash;
+
+    /**
+     * 저장된 파일명 (hash.확장자)
+     */
+    @NotNull
+    @Column(name = "file_name", nullable = false, length = 80)
+    private String fileName;
+
+    /**
+     * 파일 크기 (바이트)
+     */
+    @NotNull
+    @Column(name = "size", nullable = false)
+    private Long size;
+
+    /**
+     * 참조 수 (이 이미지를 프로필로 쓰는 회원 수)
+     */
+    @NotNull
+    @Column(name = "ref_count", nullable = false)
+    @Builder.Default
+    private Integer refCount = 0;
+}
@@ -0,0 +1,57 @@
+package com.voin.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * 회원별 통계 읽기 모델
+ *
+ * 카드 생성/삭제/공개 전환, 친구 수락/삭제 시 증감 UPDATE 로 갱신되며,
+ * 내 통계 조회는 이 테이블의 PK 조회 한 번으로 처리합니다.
+ */
+@Entity
+@Table(name = "member_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class MemberStats extends BaseEntity {
+
+    /**
+     * 회원 ID (members.id 와 1:1)
+     */
+    @Id
+    @Column(name = "member_id", columnDefinition = "uuid")
+    private UUID memberId;
+
+    /**
+     * 소유한 카드 수
+     */
+    @NotNull
+    @Min(0)
+    @Column(name = "card_count", nullable = false)
+    @Builder.Default
+    private Integer cardCount = 0;
+
+    /**
+     * 소유한 공개 카드 수
+     */
+    @NotNull
+    @Min(0)
+    @Column(name = "public_card_count", nullable = false)
+    @Builder.Default
+    private Integer publicCardCount = 0;
+
+    /**
+     * 친구 수
+     */
+    @NotNull
+    @Min(0)
+    @Column(name = "friend_count", nullable = false)
+    @Builder.Default
+    private Integer friendCount = 0;
+}
@@ -8,8 +8,10 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -93,6 +95,42 @@ public class Story extends BaseEntity {
     @Column(name = "answer2", length = 2000)
     private String answer2;
 
+    /**
+     * 분류된 장점 카테고리 (분류 작업이 완료된 경우)
+     */
+    @Column(name = "classified_category", length = 50)
+    private String classifiedCategory;
+
+    /**
+     * 분류된 장점 키워드 (분류 작업이 완료된 경우)
+     */
+    @Column(name = "classified_keyword", length = 30)
+    private String classifiedKeyword;
+
+    /**
+     * 분류와 함께 생성된 요약
+     */
+    @Column(name = "classified_summary", length = 500)
+    private String classifiedSummary;
+
+    /**
+     * 분류 완료 시간
+     */
+    @Column(name = "classified_at")
+    private LocalDateTime classifiedAt;
+
+    /**
+     * 분류에 사용한 본문의 해시 (본문이 바뀌면 결과를 다시 쓰지 않음)
+     */
+    @Column(name = "classification_hash", length = 64)
+    private String classificationHash;
+
+    /**
+     * 분류에 사용한 프롬프트 버전
+     */
+    @Column(name = "classification_prompt_version", length = 40)
+    private String classificationPromptVersion;
+
     /**
      * 이 스토리를 통해 생성된 카드들 (양방향 관계)
      */
@@ -218,6 +256,54 @@ public class Story extends BaseEntity {
         return info.toString();
     }
 
+    /**
+     * GPT 분류에 넘길 본문을 만듭니다
+     * 상황 맥락 → 내용 → 답변 순서로, 비어 있지 않은 항목만 줄바꿈으로 잇습니다.
+     */
+    public String toClassificationInput() {
+        StringBuilder input = new StringBuilder();
+        for (String part : new String[]{situationContext, content, answer1, answer2}) {
+            if (part != null && !part.trim().isEmpty()) {
+                if (input.length() > 0) {
+                    input.append('\n');
+                }
+                input.append(part.trim());
+            }
+        }
+        return input.toString();
+    }
+
+    /**
+     * 분류 결과를 기록합니다
+     * @param contentHash 분류한 본문의 해시
+     * @param promptVersion 분류에 사용한 프롬프트 버전
+     */
+    public void applyClassification(String category, String keyword, String summary,
+                                    String contentHash, String promptVersion) {
+        this.classifiedCategory = category;
+        this.classifiedKeyword = keyword;
+        this.classifiedSummary = summary != null && summary.length() > 500 ? summary.substring(0, 500) : summary;
+        this.classifiedAt = LocalDateTime.now();
+        this.classificationHash = contentHash;
+        this.classificationPromptVersion = promptVersion;
+    }
+
+    /**
+     * 저장된 분류 결과가 현재 본문과 프롬프트로 만든 것인지 확인합니다
+     */
+    public boolean isClassificationCurrent(String contentHash, String promptVersion) {
+        return isClassified()
+                && Objects.equals(classificationHash, contentHash)
+                && Objects.equals(classificationPromptVersion, promptVersion);
+    }
+
+    /**
+     * 분류 결과가 있는지 확인합니다
+     */
+    public boolean isClassified() {
+        return classifiedKeyword != null && !classifiedKeyword.isEmpty();
+    }
+
     /**
      * 특정 회원의 스토리인지 확인합니다
      */
@@ -0,0 +1,26 @@
+package com.voin.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 한 번만 실행해야 하는 초기화 작업의 완료 표시
+ *
+ * 작업 이름을 PK 로 INSERT 에 성공한 인스턴스만 작업을 실행하므로,
+ * 재시작이나 여러 인스턴스가 동시에 떠도 같은 작업을 다시 하지 않습니다.
+ */
+@Entity
+@Table(name = "system_markers")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class SystemMarker extends BaseEntity {
+
+    /**
+     * 작업 이름 (예: timeline-initialized)
+     */
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+}
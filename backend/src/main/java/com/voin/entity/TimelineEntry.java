@@ -0,0 +1,83 @@
+package com.voin.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 친구 피드(타임라인)에 미리 펼쳐 둔 카드 항목을 나타내는 엔티티
+ *
+ * 카드가 공개될 때 작성자의 친구마다 한 줄씩 기록되며(fan-out-on-write),
+ * 피드 조회는 member_id 기준 인덱스 범위 조회 한 번으로 끝납니다.
+ * 카드/회원과는 ID 로만 연결하여 카드 삭제가 타임라인에 막히지 않도록 합니다.
+ */
+@Entity
+@Table(name = "timeline_entries",
+       indexes = {
+           @Index(name = "idx_timeline_member_created_card", columnList = "member_id, card_created_at, card_id"),
+           @Index(name = "idx_timeline_card_id", columnList = "card_id"),
+           @Index(name = "idx_timeline_member_author", columnList = "member_id, author_id")
+       },
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_timeline_member_card", columnNames = {"member_id", "card_id"})
+       })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class TimelineEntry extends BaseEntity {
+
+    /**
+     * 타임라인 항목 고유 식별자 (fan-out 시 배치 INSERT 를 위해 pooled 시퀀스 사용)
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timeline_entry_id_generator")
+    @SequenceGenerator(name = "timeline_entry_id_generator", sequenceName = "timeline_entries_id_seq", allocationSize = 50)
+    @Column(name = "id")
+    private Long id;
+
+    /**
+     * 타임라인을 보는 회원의 ID
+     */
+    @NotNull(message = "회원 ID는 필수입니다")
+    @Column(name = "member_id", nullable = false, columnDefinition = "uuid")
+    private UUID memberId;
+
+    /**
+     * 카드를 작성(소유)한 친구의 ID
+     */
+    @NotNull(message = "작성자 ID는 필수입니다")
+    @Column(name = "author_id", nullable = false, columnDefinition = "uuid")
+    private UUID authorId;
+
+    /**
+     * 카드 ID
+     */
+    @NotNull(message = "카드 ID는 필수입니다")
+    @Column(name = "card_id", nullable = false)
+    private Long cardId;
+
+    /**
+     * 카드 생성 시간 (타임라인 정렬 기준)
+     */
+    @NotNull(message = "카드 생성 시간은 필수입니다")
+    @Column(name = "card_created_at", nullable = false)
+    private LocalDateTime cardCreatedAt;
+
+    // === 정적 팩토리 메서드 ===
+
+    /**
+     * 특정 회원의 타임라인에 들어갈 카드 항목을 생성합니다
+     */
+    public static TimelineEntry of(UUID memberId, UUID authorId, Long cardId, LocalDateTime cardCreatedAt) {
+        return TimelineEntry.builder()
+                .memberId(memberId)
+                .authorId(authorId)
+                .cardId(cardId)
+                .cardCreatedAt(cardCreatedAt)
+                .build();
+    }
+}
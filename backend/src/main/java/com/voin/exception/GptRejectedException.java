@@ -0,0 +1,20 @@
+package com.voin.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * GPT 호출이 보호 정책(요청 한도, 동시 호출 한도, 서킷 브레이커)에 의해 거절되었을 때
+ */
+@Getter
+public class GptRejectedException extends RuntimeException {
+
+    private final HttpStatus status;
+    private final String errorCode;
+
+    public GptRejectedException(HttpStatus status, String errorCode, String message) {
+        super(message);
+        this.status = status;
+        this.errorCode = errorCode;
+    }
+}
@@ -0,0 +1,190 @@
+package com.voin.graph;
+
+import com.voin.constant.FriendStatus;
+import com.voin.repository.FriendRepository;
+import com.voin.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 기반 친구 관계 그래프
+ *
+ * 회원 UUID 를 내부 int 서수(ordinal)로 바꾸고, 서수별로 int 집합을 인접 리스트로 들고 있습니다.
+ * - friends[a]    : a 와 친구(ACCEPTED)인 회원들
+ * - requested[a]  : a 가 친구 요청(PENDING)을 보낸 회원들
+ *
+ * 애플리케이션 시작 시 friends 테이블을 한 번 읽어 구성하고,
+ * 이후에는 FriendService 가 요청/수락/거절/삭제 시, MemberService 가 탈퇴 시 커밋 이후에 갱신합니다.
+ * 관계 확인은 O(1), 친구 목록은 O(친구 수)로 SQL 없이 처리합니다.
+ * (인스턴스별 메모리 캐시이므로 다중 인스턴스 배포 시에는 별도 동기화가 필요합니다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendshipGraph {
+
+    private final FriendRepository friendRepository;
+
+    private final Map<UUID, Integer> ordinals = new HashMap<>();
+    // 서수 0 은 IntHashSet 의 빈 슬롯 표시이므로 비워 둠
+    private final List<UUID> members = new ArrayList<>(List.of(new UUID(0, 0)));
+    private final List<IntHashSet> friends = new ArrayList<>(List.of(new IntHashSet()));
+    private final List<IntHashSet> requested = new ArrayList<>(List.of(new IntHashSet()));
+    // link/ordinalOf 는 쓰기 락(AfterCommit.run) 안에서만, 조회는 읽기 락을 잡고 실행
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Object[]> acceptedPairs = friendRepository.findPairsByStatus(FriendStatus.ACCEPTED);
+        List<Object[]> pendingPairs = friendRepository.findPairsByStatus(FriendStatus.PENDING);
+        lock.writeLock().lock();
+        try {
+            for (Object[] pair : acceptedPairs) {
+                link(ordinalOf((UUID) pair[0]), ordinalOf((UUID) pair[1]));
+            }
+            for (Object[] pair : pendingPairs) {
+                requested.get(ordinalOf((UUID) pair[0])).add(ordinalOf((UUID) pair[1]));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Friendship graph loaded: {} members, {} friendships, {} pending requests",
+                members.size() - 1, acceptedPairs.size(), pendingPairs.size());
+    }
+
+    // === 조회 ===
+
+    /**
+     * 두 회원이 친구 관계인지 확인합니다
+     */
+    public boolean areFriends(UUID memberId1, UUID memberId2) {
+        lock.readLock().lock();
+        try {
+            Integer a = ordinals.get(memberId1);
+            Integer b = ordinals.get(memberId2);
+            return a != null && b != null && friends.get(a).contains(b);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * fromMemberId 가 toMemberId 에게 보낸 대기 중인 친구 요청이 있는지 확인합니다
+     */
+    public boolean hasPendingRequest(UUID fromMemberId, UUID toMemberId) {
+        lock.readLock().lock();
+        try {
+            Integer from = ordinals.get(fromMemberId);
+            Integer to = ordinals.get(toMemberId);
+            return from != null && to != null && requested.get(from).contains(to);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 회원의 친구 ID 목록을 조회합니다
+     */
+    public List<UUID> friendIdsOf(UUID memberId) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinals.get(memberId);
+            if (ordinal == null) {
+                return List.of();
+            }
+            IntHashSet adjacent = friends.get(ordinal);
+            List<UUID> result = new ArrayList<>(adjacent.size());
+            adjacent.forEach(friend -> result.add(members.get(friend)));
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // === 갱신 (트랜잭션 커밋 이후 반영) ===
+
+    /**
+     * 친구 요청을 기록합니다
+     */
+    public void addPendingRequest(UUID fromMemberId, UUID toMemberId) {
+        AfterCommit.run(lock, () -> requested.get(ordinalOf(fromMemberId)).add(ordinalOf(toMemberId)));
+    }
+
+    /**
+     * 친구 요청을 지웁니다 (거절)
+     */
+    public void removePendingRequest(UUID fromMemberId, UUID toMemberId) {
+        AfterCommit.run(lock, () -> requested.get(ordinalOf(fromMemberId)).remove(ordinalOf(toMemberId)));
+    }
+
+    /**
+     * 친구 요청을 친구 관계로 바꿉니다 (수락)
+     */
+    public void acceptRequest(UUID fromMemberId, UUID toMemberId) {
+        AfterCommit.run(lock, () -> {
+            int from = ordinalOf(fromMemberId);
+            int to = ordinalOf(toMemberId);
+            requested.get(from).remove(to);
+            link(from, to);
+        });
+    }
+
+    /**
+     * 친구 관계를 끊습니다
+     */
+    public void removeFriendship(UUID memberId1, UUID memberId2) {
+        AfterCommit.run(lock, () -> {
+            int a = ordinalOf(memberId1);
+            int b = ordinalOf(memberId2);
+            friends.get(a).remove(b);
+            friends.get(b).remove(a);
+        });
+    }
+
+    /**
+     * 탈퇴한 회원을 그래프에서 지웁니다 (친구 관계와 주고받은 친구 요청 모두)
+     * 서수는 재사용하지 않고 비워 둡니다.
+     */
+    public void removeMember(UUID memberId) {
+        AfterCommit.run(lock, () -> {
+            Integer ordinal = ordinals.remove(memberId);
+            if (ordinal == null) {
+                return;
+            }
+            friends.get(ordinal).forEach(friend -> friends.get(friend).remove(ordinal));
+            // 받은 요청은 역방향 목록이 없으므로 전체를 훑음 (탈퇴 시에만)
+            requested.forEach(targets -> targets.remove(ordinal));
+            friends.set(ordinal, new IntHashSet());
+            requested.set(ordinal, new IntHashSet());
+        });
+    }
+
+    private void link(int a, int b) {
+        friends.get(a).add(b);
+        friends.get(b).add(a);
+    }
+
+    private int ordinalOf(UUID memberId) {
+        Integer ordinal = ordinals.get(memberId);
+        if (ordinal != null) {
+            return ordinal;
+        }
+        int next = members.size();
+        ordinals.put(memberId, next);
+        members.add(memberId);
+        friends.add(new IntHashSet());
+        requested.add(new IntHashSet());
+        return next;
+    }
+}
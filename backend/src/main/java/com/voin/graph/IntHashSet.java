@@ -0,0 +1,113 @@
+package com.voin.graph;
+
+import java.util.function.IntConsumer;
+
+/**
+ * int 전용 해시 집합 (open addressing, linear probing)
+ *
+ * 친구 인접 리스트처럼 작은 정수 집합을 대량으로 들고 있을 때
+ * HashSet&lt;Integer&gt; 의 박싱/엔트리 객체 비용을 없애기 위해 사용합니다.
+ * 0 은 빈 슬롯 표시로 쓰므로 원소는 양수여야 합니다. 스레드 안전하지 않습니다.
+ */
+final class IntHashSet {
+
+    private static final int EMPTY = 0;
+    private static final int MIN_CAPACITY = 4;
+
+    private int[] slots;
+    private int size;
+
+    IntHashSet() {
+        this.slots = new int[MIN_CAPACITY];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(int value) {
+        int mask = slots.length - 1;
+        for (int i = mix(value) & mask; ; i = (i + 1) & mask) {
+            int slot = slots[i];
+            if (slot == EMPTY) {
+                return false;
+            }
+            if (slot == value) {
+                return true;
+            }
+        }
+    }
+
+    boolean add(int value) {
+        if (value <= EMPTY) {
+            throw new IllegalArgumentException("값은 양수여야 합니다: " + value);
+        }
+        // 적재율 1/2 초과 시 확장
+        if ((size + 1) * 2 > slots.length) {
+            resize(slots.length * 2);
+        }
+        int mask = slots.length - 1;
+        for (int i = mix(value) & mask; ; i = (i + 1) & mask) {
+            int slot = slots[i];
+            if (slot == EMPTY) {
+                slots[i] = value;
+                size++;
+                return true;
+            }
+            if (slot == value) {
+                return false;
+            }
+        }
+    }
+
+    boolean remove(int value) {
+        int mask = slots.length - 1;
+        int i = mix(value) & mask;
+        while (slots[i] != value) {
+            if (slots[i] == EMPTY) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        // backward shift: 뒤따르는 충돌 원소를 앞으로 당겨 탐색 체인을 유지
+        int gap = i;
+        for (int j = (i + 1) & mask; slots[j] != EMPTY; j = (j + 1) & mask) {
+            int home = mix(slots[j]) & mask;
+            if (((j - home) & mask) >= ((j - gap) & mask)) {
+                slots[gap] = slots[j];
+                gap = j;
+            }
+        }
+        slots[gap] = EMPTY;
+        size--;
+        return true;
+    }
+
+    void forEach(IntConsumer action) {
+        for (int slot : slots) {
+            if (slot != EMPTY) {
+                action.accept(slot);
+            }
+        }
+    }
+
+    private void resize(int capacity) {
+        int[] old = slots;
+        slots = new int[capacity];
+        size = 0;
+        for (int slot : old) {
+            if (slot != EMPTY) {
+                add(slot);
+            }
+        }
+    }
+
+    private static int mix(int value) {
+        int h = value * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
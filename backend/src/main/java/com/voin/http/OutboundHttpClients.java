@@ -0,0 +1,183 @@
+package com.voin.http;
+
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 외부 HTTP 호출 클라이언트 (OpenAI, Kakao 공용)
+ *
+ * 클라이언트 이름마다 Reactor Netty 커넥션 풀을 하나씩 만들어 재사용합니다. (풀 안에서 호스트별로 연결 유지)
+ * 논블로킹 호출은 webClient(), 블로킹 호출은 restTemplate() 을 쓰며 둘 다 같은 풀과 정책을 사용합니다.
+ * - 연결/읽기/전체 타임아웃 (OutboundHttpProperties)
+ * - 멱등 요청만 네트워크 오류·타임아웃 시 짧게 재시도 (POST 는 재시도하지 않음)
+ * - 클라이언트 + 호스트별 지연/오류 지표 (OutboundHttpMetrics)
+ */
+@Slf4j
+@Component
+public class OutboundHttpClients implements DisposableBean {
+
+    private static final Set<HttpMethod> IDEMPOTENT_METHODS = Set.of(
+            HttpMethod.GET, HttpMethod.HEAD, HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.OPTIONS);
+
+    private final OutboundHttpProperties properties;
+    private final OutboundHttpMetrics metrics;
+    private final WebClient.Builder webClientBuilder;
+
+    private final Map<String, ConnectionProvider> providers = new ConcurrentHashMap<>();
+
+    public OutboundHttpClients(OutboundHttpProperties properties,
+                               OutboundHttpMetrics metrics,
+                               WebClient.Builder webClientBuilder) {
+        this.properties = properties;
+        this.metrics = metrics;
+        this.webClientBuilder = webClientBuilder;
+    }
+
+    /**
+     * 논블로킹 클라이언트 빌더 (풀, 타임아웃, 재시도, 지표가 적용된 상태)
+     * @param client 클라이언트 이름 (정책과 지표의 기준)
+     */
+    public WebClient.Builder webClient(String client) {
+        OutboundHttpProperties.Policy policy = properties.policyFor(client);
+        return webClientBuilder.clone()
+                .clientConnector(new ReactorClientHttpConnector(httpClient(client, policy)))
+                .filter(exchangeFilter(client, policy));
+    }
+
+    /**
+     * 블로킹 클라이언트 (풀, 타임아웃, 재시도, 지표가 적용된 상태)
+     * @param client 클라이언트 이름 (정책과 지표의 기준)
+     */
+    public RestTemplate restTemplate(String client) {
+        OutboundHttpProperties.Policy policy = properties.policyFor(client);
+        // 블로킹 호출은 연결/읽기 타임아웃만 적용 (전체 타임아웃은 WebClient 에서만)
+        RestTemplate restTemplate = new RestTemplate(new ReactorClientHttpRequestFactory(httpClient(client, policy)));
+        restTemplate.setInterceptors(List.of(new RetryingInterceptor(client, policy)));
+        return restTemplate;
+    }
+
+    @Override
+    public void destroy() {
+        providers.values().forEach(ConnectionProvider::dispose);
+    }
+
+    private HttpClient httpClient(String client, OutboundHttpProperties.Policy policy) {
+        ConnectionProvider provider = providers.computeIfAbsent(client, name -> ConnectionProvider.builder(name)
+                .maxConnections(policy.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofMillis(policy.getPendingAcquireTimeoutMillis()))
+                .maxIdleTime(Duration.ofMillis(policy.getMaxIdleTimeMillis()))
+                .build());
+        return HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, policy.getConnectTimeoutMillis())
+                .responseTimeout(Duration.ofMillis(policy.getReadTimeoutMillis()));
+    }
+
+    /**
+     * WebClient 용: 응답 헤더까지 전체 타임아웃 + 지표 기록 + 멱등 요청 재시도
+     */
+    private ExchangeFilterFunction exchangeFilter(String client, OutboundHttpProperties.Policy policy) {
+        Duration totalTimeout = Duration.ofMillis(policy.getTotalTimeoutMillis());
+        return (request, next) -> {
+            String host = request.url().getHost();
+            Mono<ClientResponse> exchange = Mono.defer(() -> {
+                long start = System.nanoTime();
+                return next.exchange(request)
+                        .timeout(totalTimeout)
+                        .doOnNext(response -> metrics.recordResponse(
+                                client, host, response.statusCode().value(), System.nanoTime() - start))
+                        .doOnError(e -> metrics.recordFailure(
+                                client, host, isTimeout(e), System.nanoTime() - start));
+            });
+            if (!IDEMPOTENT_METHODS.contains(request.method()) || policy.getMaxRetries() <= 0) {
+                return exchange;
+            }
+            return exchange.retryWhen(Retry.backoff(policy.getMaxRetries(), Duration.ofMillis(policy.getRetryBackoffMillis()))
+                    .filter(OutboundHttpClients::isRetryable)
+                    .doBeforeRetry(signal -> metrics.recordRetry(client, host))
+                    .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+        };
+    }
+
+    private static boolean isRetryable(Throwable e) {
+        return e instanceof IOException || e instanceof TimeoutException;
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        return e instanceof TimeoutException || e instanceof SocketTimeoutException
+                || e instanceof io.netty.handler.timeout.TimeoutException;
+    }
+
+    /**
+     * RestTemplate 용: 지표 기록 + 멱등 요청 재시도 (interceptor 가 하나뿐이라 execute 를 다시 불러도 새 요청이 나감)
+     */
+    private final class RetryingInterceptor implements ClientHttpRequestInterceptor {
+
+        private final String client;
+        private final OutboundHttpProperties.Policy policy;
+
+        private RetryingInterceptor(String client, OutboundHttpProperties.Policy policy) {
+            this.client = client;
+            this.policy = policy;
+        }
+
+        @Override
+        public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                            ClientHttpRequestExecution execution) throws IOException {
+            String host = request.getURI().getHost();
+            int retriesLeft = IDEMPOTENT_METHODS.contains(request.getMethod()) ? policy.getMaxRetries() : 0;
+            long backoff = policy.getRetryBackoffMillis();
+            while (true) {
+                long start = System.nanoTime();
+                try {
+                    ClientHttpResponse response = execution.execute(request, body);
+                    metrics.recordResponse(client, host, response.getStatusCode().value(), System.nanoTime() - start);
+                    return response;
+                } catch (IOException e) {
+                    metrics.recordFailure(client, host, isTimeout(e), System.nanoTime() - start);
+                    if (retriesLeft-- <= 0) {
+                        throw e;
+                    }
+                    metrics.recordRetry(client, host);
+                    log.debug("Retrying {} {} after {}: {}", request.getMethod(), request.getURI(), backoff, e.getMessage());
+                    sleep(backoff);
+                    backoff *= 2;
+                }
+            }
+        }
+
+        private void sleep(long millis) throws IOException {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("재시도 대기 중 중단되었습니다.", e);
+            }
+        }
+    }
+}
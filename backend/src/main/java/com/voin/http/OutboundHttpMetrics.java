@@ -0,0 +1,86 @@
+package com.voin.http;
+
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 HTTP 호출 지표 (클라이언트 + 호스트별)
+ *
+ * 요청 수, 상태 코드 구간별 응답 수, 네트워크 오류/타임아웃, 재시도 수, 지연 시간(평균/최대)을 모읍니다.
+ * 지연 시간은 응답 헤더를 받을 때까지의 시간입니다.
+ */
+@Component
+public class OutboundHttpMetrics {
+
+    private final Map<String, HostStats> stats = new ConcurrentHashMap<>();
+
+    void recordResponse(String client, String host, int status, long elapsedNanos) {
+        HostStats s = statsFor(client, host);
+        s.requests.increment();
+        if (status >= 500) {
+            s.serverErrors.increment();
+        } else if (status >= 400) {
+            s.clientErrors.increment();
+        }
+        s.record(elapsedNanos);
+    }
+
+    void recordFailure(String client, String host, boolean timeout, long elapsedNanos) {
+        HostStats s = statsFor(client, host);
+        s.requests.increment();
+        (timeout ? s.timeouts : s.networkErrors).increment();
+        s.record(elapsedNanos);
+    }
+
+    void recordRetry(String client, String host) {
+        statsFor(client, host).retries.increment();
+    }
+
+    /**
+     * "클라이언트 호스트" 별 지표 스냅샷
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new TreeMap<>();
+        stats.forEach((key, s) -> {
+            long requests = s.requests.sum();
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("requests", requests);
+            values.put("clientErrors", s.clientErrors.sum());
+            values.put("serverErrors", s.serverErrors.sum());
+            values.put("networkErrors", s.networkErrors.sum());
+            values.put("timeouts", s.timeouts.sum());
+            values.put("retries", s.retries.sum());
+            values.put("avgLatencyMillis", requests == 0 ? 0 : s.totalLatencyMillis.sum() / requests);
+            values.put("maxLatencyMillis", s.maxLatencyMillis.get());
+            result.put(key, values);
+        });
+        return result;
+    }
+
+    private HostStats statsFor(String client, String host) {
+        return stats.computeIfAbsent(client + " " + host, key -> new HostStats());
+    }
+
+    private static final class HostStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder networkErrors = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder totalLatencyMillis = new LongAdder();
+        private final LongAccumulator maxLatencyMillis = new LongAccumulator(Math::max, 0);
+
+        private void record(long elapsedNanos) {
+            long millis = elapsedNanos / 1_000_000;
+            totalLatencyMillis.add(millis);
+            maxLatencyMillis.accumulate(millis);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.voin.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 HTTP 호출 클라이언트별 정책 (voin.http.clients.<이름>.*)
+ *
+ * 예)
+ * voin.http.clients.kakao.read-timeout-millis=3000
+ * voin.http.clients.openai.max-connections=100
+ * 설정하지 않은 클라이언트와 항목은 Policy 의 기본값을 사용합니다. (openai 는 LLM 응답 시간에 맞춘 기본값)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "voin.http")
+public class OutboundHttpProperties {
+
+    private Map<String, Policy> clients = new HashMap<>(Map.of("openai", Policy.longRunning()));
+
+    public Policy policyFor(String client) {
+        return clients.getOrDefault(client, new Policy());
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        // 커넥션 풀 (호스트마다 따로 유지)
+        private int maxConnections = 50;
+        private long pendingAcquireTimeoutMillis = 5_000;
+        private long maxIdleTimeMillis = 30_000;
+        // 타임아웃: 연결 / 응답 대기(읽기 간격) / 응답 헤더까지 전체 (전체 타임아웃은 WebClient 에만 적용)
+        private int connectTimeoutMillis = 3_000;
+        private long readTimeoutMillis = 10_000;
+        private long totalTimeoutMillis = 15_000;
+        // 멱등 요청(GET, HEAD, PUT, DELETE, OPTIONS)만 네트워크 오류 시 재시도
+        private int maxRetries = 2;
+        private long retryBackoffMillis = 200;
+
+        /**
+         * 응답이 수십 초 걸리는 호출용 (OpenAI)
+         */
+        static Policy longRunning() {
+            Policy policy = new Policy();
+            policy.setPendingAcquireTimeoutMillis(10_000);
+            policy.setConnectTimeoutMillis(5_000);
+            policy.setReadTimeoutMillis(60_000);
+            policy.setTotalTimeoutMillis(70_000);
+            return policy;
+        }
+    }
+}
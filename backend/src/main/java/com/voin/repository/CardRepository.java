@@ -30,6 +30,19 @@ public interface CardRepository extends JpaRepository<Card, Long> {
      */
     List<Card> findByOwnerOrderByCreatedAtDesc(Member owner);
 
+    /**
+     * 특정 회원이 소유한 모든 카드를 키워드, 코인, 스토리와 함께 한 번에 조회합니다 (최신순)
+     * 보관함 화면에서 카드마다 연관 엔티티를 지연 로딩하지 않도록 fetch join 합니다.
+     * @param owner 소유자
+     * @return 연관 정보가 로딩된 카드 목록
+     */
+    @Query("SELECT c FROM Card c " +
+           "LEFT JOIN FETCH c.keyword k LEFT JOIN FETCH k.coin " +
+           "LEFT JOIN FETCH c.story " +
+           "WHERE c.owner = :owner " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Card> findArchiveByOwner(@Param("owner") Member owner);
+
     /**
      * 특정 회원이 소유한 공개 카드만 조회합니다 (최신순)
      * @param owner 소유자
@@ -59,6 +72,37 @@ public interface CardRepository extends JpaRepository<Card, Long> {
      */
     List<Card> findByIsPublicTrueOrderByCreatedAtDesc();
 
+    /**
+     * 공개 카드 피드의 첫 페이지를 조회합니다 (커서 기반, COUNT 쿼리 없음)
+     * idx_card_public_created_id (is_public, created_at, id) 인덱스를 그대로 타도록 정렬합니다.
+     * @param pageable 조회 개수 (page 는 항상 0)
+     * @return 공개 카드 목록 (최신순)
+     */
+    @Query("SELECT c FROM Card c " +
+           "JOIN FETCH c.owner " +
+           "LEFT JOIN FETCH c.keyword k LEFT JOIN FETCH k.coin " +
+           "WHERE c.isPublic = true " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Card> findPublicFeed(Pageable pageable);
+
+    /**
+     * 커서 이후의 공개 카드를 조회합니다 (커서 기반, COUNT 쿼리 없음)
+     * (createdAt, id) 가 커서보다 작은 카드만 조회하므로 페이지 깊이와 관계없이 비용이 일정합니다.
+     * @param createdAt 커서의 생성 시간
+     * @param id 커서의 카드 ID
+     * @param pageable 조회 개수 (page 는 항상 0)
+     * @return 공개 카드 목록 (최신순)
+     */
+    @Query("SELECT c FROM Card c " +
+           "JOIN FETCH c.owner " +
+           "LEFT JOIN FETCH c.keyword k LEFT JOIN FETCH k.coin " +
+           "WHERE c.isPublic = true " +
+           "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Card> findPublicFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
     // === 친구들의 공개 카드 조회 (Friend 기능용) ===
 
     /**
@@ -69,16 +113,37 @@ public interface CardRepository extends JpaRepository<Card, Long> {
     @Query("SELECT c FROM Card c WHERE c.owner IN :owners AND c.isPublic = true ORDER BY c.createdAt DESC")
     List<Card> findByOwnerInAndIsPublicTrueOrderByCreatedAtDesc(@Param("owners") List<Member> owners);
 
+    /**
+     * 특정 회원의 최근 공개 카드 ID 와 생성 시간만 조회합니다 (타임라인 백필용)
+     * @param ownerId 소유자 ID
+     * @param pageable 조회 개수 (page 는 항상 0)
+     * @return [id, createdAt] 배열 목록 (최신순)
+     */
+    @Query("SELECT c.id, c.createdAt FROM Card c " +
+           "WHERE c.owner.id = :ownerId AND c.isPublic = true " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<Object[]> findRecentPublicCardKeys(@Param("ownerId") UUID ownerId, Pageable pageable);
+
     // === 카드 검색 ===
 
     /**
-     * 내용으로 공개 카드를 검색합니다 (페이징)
-     * @param keyword 검색 키워드
-     * @param pageable 페이징 정보
-     * @return 검색된 공개 카드 페이지
+     * 검색 인덱스 구축용으로 모든 공개 카드의 ID와 내용만 조회합니다
+     * @return [id, content] 배열 목록
+     */
+    @Query("SELECT c.id, c.content FROM Card c WHERE c.isPublic = true AND c.content IS NOT NULL")
+    List<Object[]> findPublicCardContents();
+
+    /**
+     * ID 목록에 해당하는 카드를 소유자, 키워드, 코인과 함께 조회합니다
+     * 검색 인덱스 결과를 응답으로 변환할 때 사용합니다. (결과 순서는 보장하지 않음)
+     * @param ids 카드 ID 목록
+     * @return 연관 정보가 로딩된 카드 목록
      */
-    @Query("SELECT c FROM Card c WHERE c.isPublic = true AND c.content LIKE %:keyword% ORDER BY c.createdAt DESC")
-    Page<Card> searchByContentAndIsPublicTrue(@Param("keyword") String keyword, Pageable pageable);
+    @Query("SELECT c FROM Card c " +
+           "JOIN FETCH c.owner " +
+           "LEFT JOIN FETCH c.keyword k LEFT JOIN FETCH k.coin " +
+           "WHERE c.id IN :ids")
+    List<Card> findAllWithDetailsByIdIn(@Param("ids") List<Long> ids);
 
     // === 통계 쿼리 ===
 
@@ -102,6 +167,25 @@ public interface CardRepository extends JpaRepository<Card, Long> {
      */
     long countByIsPublicTrue();
 
+    /**
+     * 특정 회원이 소유한 카드 수와 공개 카드 수를 한 번에 조회합니다 (회원 통계 초기화용)
+     * @param ownerId 소유자 ID
+     * @return [카드 수, 공개 카드 수] 배열 목록 (한 행)
+     */
+    @Query("SELECT COUNT(c), COALESCE(SUM(CASE WHEN c.isPublic = true THEN 1 ELSE 0 END), 0) " +
+           "FROM Card c WHERE c.owner.id = :ownerId")
+    List<Object[]> countCardsByOwnerId(@Param("ownerId") UUID ownerId);
+
+    /**
+     * 회원이 탈퇴하면 함께 지워지는(작성자/대상자가 그 회원인) 다른 회원 소유 카드 수를 소유자별로 셉니다
+     * @return [소유자 ID, 카드 수, 공개 카드 수] 배열 목록
+     */
+    @Query("SELECT c.owner.id, COUNT(c), COALESCE(SUM(CASE WHEN c.isPublic = true THEN 1 ELSE 0 END), 0) " +
+           "FROM Card c " +
+           "WHERE (c.creator.id = :memberId OR c.targetMember.id = :memberId) AND c.owner.id <> :memberId " +
+           "GROUP BY c.owner.id")
+    List<Object[]> countCardsRemovedWithMember(@Param("memberId") UUID memberId);
+
     // === 삭제 쿼리 ===
 
     /**
@@ -0,0 +1,59 @@
+package com.voin.repository;
+
+import com.voin.constant.ClassificationJobStatus;
+import com.voin.entity.ClassificationJob;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 스토리 분류 작업(ClassificationJob)에 대한 데이터 접근 계층
+ */
+@Repository
+public interface ClassificationJobRepository extends JpaRepository<ClassificationJob, Long> {
+
+    /**
+     * 특정 스토리에 해당 상태의 작업이 있는지 확인합니다 (중복 등록 방지)
+     */
+    boolean existsByStoryIdAndStatus(Long storyId, ClassificationJobStatus status);
+
+    /**
+     * 처리할 작업을 잠그고 조회합니다 (사용자가 기다리는 작업 먼저, 그다음 오래 기다린 순)
+     * 실행 시각이 된 대기 작업과 점유가 만료된 처리 중 작업을 가져오며,
+     * 다른 워커가 잠근 행은 기다리지 않고 건너뜁니다. (FOR UPDATE SKIP LOCKED)
+     * @param now 현재 시각
+     * @param pageable 가져올 개수 (page 는 항상 0)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT j FROM ClassificationJob j " +
+           "WHERE (j.status = com.voin.constant.ClassificationJobStatus.PENDING AND j.nextRunAt <= :now) " +
+           "OR (j.status = com.voin.constant.ClassificationJobStatus.RUNNING AND j.lockedUntil < :now) " +
+           "ORDER BY j.interactive DESC, j.nextRunAt")
+    List<ClassificationJob> findRunnableForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 특정 상태의 작업 수를 조회합니다 (백필 조절용)
+     */
+    long countByStatus(ClassificationJobStatus status);
+
+    /**
+     * 끝난 지 오래된 작업을 삭제합니다
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM ClassificationJob j " +
+           "WHERE j.status IN (com.voin.constant.ClassificationJobStatus.DONE, com.voin.constant.ClassificationJobStatus.FAILED) " +
+           "AND j.updatedAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
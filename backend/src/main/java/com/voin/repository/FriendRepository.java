@@ -32,4 +32,18 @@ public interface FriendRepository extends JpaRepository<Friend, Long> {
             " (f.fromMember.id = :memberId2 AND f.toMember.id = :memberId1))")
     Optional<Friend> findAcceptedFriendBetween(UUID memberId1, UUID memberId2);
 
+    @Query("SELECT COUNT(f) FROM Friend f " +
+           "WHERE (f.fromMember.id = :memberId OR f.toMember.id = :memberId) " +
+           "AND f.status = 'ACCEPTED'")
+    long countAcceptedFriends(@Param("memberId") UUID memberId);
+
+    @Query("SELECT CASE WHEN f.fromMember.id = :memberId THEN f.toMember.id ELSE f.fromMember.id END " +
+           "FROM Friend f " +
+           "WHERE (f.fromMember.id = :memberId OR f.toMember.id = :memberId) " +
+           "AND f.status = 'ACCEPTED'")
+    List<UUID> findAcceptedFriendIds(@Param("memberId") UUID memberId);
+
+    @Query("SELECT f.fromMember.id, f.toMember.id FROM Friend f WHERE f.status = :status")
+    List<Object[]> findPairsByStatus(@Param("status") FriendStatus status);
+
 } 
\ No newline at end of file
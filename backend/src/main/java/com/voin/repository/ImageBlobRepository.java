@@ -0,0 +1,75 @@
+package com.voin.repository;
+
+import com.voin.entity.ImageBlob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이미지 파일 메타데이터(ImageBlob)에 대한 데이터 접근 계층
+ */
+@Repository
+public interface ImageBlobRepository extends JpaRepository<ImageBlob, String> {
+
+    /**
+     * 참조 수를 증감합니다 (동시 갱신에도 값이 유실되지 않도록 DB 에서 더함)
+     * 수정 시간도 함께 갱신해 정리 유예 기간을 다시 시작합니다.
+     * @param hash 내용 해시
+     * @param delta 증감 값
+     * @return 갱신된 행 수 (등록되지 않은 이미지면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ImageBlob b SET b.refCount = b.refCount + :delta, b.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE b.hash = :hash")
+    int adjustRefCount(@Param("hash") String hash, @Param("delta") int delta);
+
+    /**
+     * 처음 보는 이미지를 참조 수 1 로 등록합니다 (PostgreSQL)
+     * 같은 이미지가 동시에 올라와 다른 트랜잭션이 먼저 등록했으면 참조 수만 1 늘립니다.
+     * @return 등록되거나 갱신된 행 수 (항상 1)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO image_blobs (hash, file_name, size, ref_count, created_at, updated_at) " +
+                   "VALUES (:hash, :fileName, :size, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (hash) DO UPDATE SET ref_count = image_blobs.ref_count + 1, " +
+                   "updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int insertOrRetain(@Param("hash") String hash, @Param("fileName") String fileName, @Param("size") long size);
+
+    /**
+     * insertOrRetain 의 표준 MERGE 버전 (PostgreSQL 이 아닌 DB, 예: H2)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "MERGE INTO image_blobs b " +
+                   "USING (VALUES (CAST(:hash AS VARCHAR(64)), CAST(:fileName AS VARCHAR(80)), CAST(:size AS BIGINT))) " +
+                   "AS s (hash, file_name, size) ON b.hash = s.hash " +
+                   "WHEN MATCHED THEN UPDATE SET ref_count = b.ref_count + 1, updated_at = CURRENT_TIMESTAMP " +
+                   "WHEN NOT MATCHED THEN INSERT (hash, file_name, size, ref_count, created_at, updated_at) " +
+                   "VALUES (s.hash, s.file_name, s.size, 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    int insertOrRetainByMerge(@Param("hash") String hash, @Param("fileName") String fileName, @Param("size") long size);
+
+    // === 정리(GC) ===
+
+    /**
+     * 참조되지 않은 채 유예 기간이 지난 이미지를 조회합니다 (오래된 순)
+     * @param cutoff 이 시각 이전에 마지막으로 변경된 이미지만
+     * @param pageable 한 번에 정리할 개수 (page 는 항상 0)
+     */
+    @Query("SELECT b FROM ImageBlob b WHERE b.refCount <= 0 AND b.updatedAt < :cutoff ORDER BY b.updatedAt")
+    List<ImageBlob> findUnreferenced(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 조회 이후 다시 참조되지 않았을 때만 삭제합니다
+     * @return 삭제된 행 수 (그 사이 다시 참조되었으면 0)
+     */
+    @Modifying
+    @Query("DELETE FROM ImageBlob b WHERE b.hash = :hash AND b.refCount <= 0 AND b.updatedAt < :cutoff")
+    int deleteIfUnreferenced(@Param("hash") String hash, @Param("cutoff") LocalDateTime cutoff);
+}
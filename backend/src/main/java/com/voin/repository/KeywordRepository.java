@@ -131,6 +131,30 @@ public interface KeywordRepository extends JpaRepository<Keyword, Long> {
     @Query("SELECT k FROM Keyword k WHERE k.name IN :keywordNames ORDER BY k.name")
     List<Keyword> findByNames(@Param("keywordNames") List<String> keywordNames);
 
+    /**
+     * ID 목록에 해당하는 키워드들을 코인과 함께 한 번에 조회합니다
+     * @param ids 키워드 ID 목록
+     * @return 코인이 로딩된 키워드 목록 (결과 순서는 보장하지 않음)
+     */
+    @Query("SELECT k FROM Keyword k JOIN FETCH k.coin WHERE k.id IN :ids")
+    List<Keyword> findAllWithCoinByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * 코인 이름과 키워드 이름으로 키워드를 조회합니다 (분류 결과를 키워드로 바꿀 때 사용)
+     * @param coinName 코인 이름
+     * @param name 키워드 이름
+     * @return 해당 키워드 (Optional)
+     */
+    @Query("SELECT k FROM Keyword k JOIN FETCH k.coin c WHERE c.name = :coinName AND k.name = :name")
+    Optional<Keyword> findByCoinNameAndName(@Param("coinName") String coinName, @Param("name") String name);
+
+    /**
+     * 사전 분류기 구축용으로 모든 키워드의 이름, 설명, 코인 이름만 조회합니다
+     * @return [name, description, coinName] 배열 목록
+     */
+    @Query("SELECT k.name, k.description, c.name FROM Keyword k JOIN k.coin c ORDER BY c.id, k.id")
+    List<Object[]> findAllForClassification();
+
     /**
      * 가장 많이 사용된 키워드들을 조회합니다 (카드 작성 기준)
      * @param limit 조회할 키워드 수
@@ -10,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -44,6 +45,13 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
      */
     Optional<Member> findByNickname(String nickname);
 
+    /**
+     * 닉네임 검색 인덱스 구축용으로 모든 회원의 ID와 닉네임만 조회합니다
+     * @return [id, nickname] 배열 목록
+     */
+    @Query("SELECT m.id, m.nickname FROM Member m")
+    List<Object[]> findAllNicknames();
+
     // === 존재 여부 확인 메서드 ===
 
     /**
@@ -60,6 +68,14 @@ public interface MemberRepository extends JpaRepository<Member, UUID> {
      */
     boolean existsByFriendCode(String friendCode);
 
+    /**
+     * 주어진 친구 코드 중 이미 사용 중인 코드를 조회합니다 (친구 코드 풀 보충용)
+     * @param friendCodes 확인할 친구 코드 목록
+     * @return 이미 사용 중인 친구 코드 목록
+     */
+    @Query("SELECT m.friendCode FROM Member m WHERE m.friendCode IN :friendCodes")
+    List<String> findExistingFriendCodes(@Param("friendCodes") Collection<String> friendCodes);
+
     /**
      * 닉네임 존재 여부를 확인합니다
      * @param nickname 회원 닉네임
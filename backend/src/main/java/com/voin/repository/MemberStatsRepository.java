@@ -0,0 +1,82 @@
+package com.voin.repository;
+
+import com.voin.entity.MemberStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * 회원 통계(MemberStats) 읽기 모델에 대한 데이터 접근 계층
+ */
+@Repository
+public interface MemberStatsRepository extends JpaRepository<MemberStats, UUID> {
+
+    /**
+     * 회원 통계를 증감합니다 (동시 갱신에도 값이 유실되지 않도록 DB 에서 더함)
+     * @param memberId 회원 ID
+     * @param cardDelta 카드 수 증감
+     * @param publicCardDelta 공개 카드 수 증감
+     * @param friendDelta 친구 수 증감
+     * @return 갱신된 행 수 (통계 행이 아직 없으면 0)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE MemberStats s SET " +
+           "s.cardCount = s.cardCount + :cardDelta, " +
+           "s.publicCardCount = s.publicCardCount + :publicCardDelta, " +
+           "s.friendCount = s.friendCount + :friendDelta, " +
+           "s.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE s.memberId = :memberId")
+    int increment(@Param("memberId") UUID memberId,
+                  @Param("cardDelta") int cardDelta,
+                  @Param("publicCardDelta") int publicCardDelta,
+                  @Param("friendDelta") int friendDelta);
+
+    /**
+     * 통계 행이 없으면 초기값으로 만들고, 그사이 다른 트랜잭션이 먼저 만들었으면 증감만 더합니다 (PostgreSQL)
+     * 초기값은 이번 변경이 이미 반영된 COUNT 이므로 새로 만들 때는 증감을 더하지 않습니다.
+     * @return 만들어지거나 갱신된 행 수 (항상 1)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO member_stats (member_id, card_count, public_card_count, friend_count, created_at, updated_at) " +
+                   "VALUES (:memberId, :cardCount, :publicCardCount, :friendCount, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+                   "ON CONFLICT (member_id) DO UPDATE SET " +
+                   "card_count = member_stats.card_count + :cardDelta, " +
+                   "public_card_count = member_stats.public_card_count + :publicCardDelta, " +
+                   "friend_count = member_stats.friend_count + :friendDelta, " +
+                   "updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    int initializeOrIncrement(@Param("memberId") UUID memberId,
+                              @Param("cardCount") int cardCount,
+                              @Param("publicCardCount") int publicCardCount,
+                              @Param("friendCount") int friendCount,
+                              @Param("cardDelta") int cardDelta,
+                              @Param("publicCardDelta") int publicCardDelta,
+                              @Param("friendDelta") int friendDelta);
+
+    /**
+     * initializeOrIncrement 의 표준 MERGE 버전 (PostgreSQL 이 아닌 DB, 예: H2)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "MERGE INTO member_stats s USING (VALUES (CAST(:memberId AS UUID))) AS v (member_id) " +
+                   "ON s.member_id = v.member_id " +
+                   "WHEN MATCHED THEN UPDATE SET " +
+                   "card_count = s.card_count + :cardDelta, " +
+                   "public_card_count = s.public_card_count + :publicCardDelta, " +
+                   "friend_count = s.friend_count + :friendDelta, " +
+                   "updated_at = CURRENT_TIMESTAMP " +
+                   "WHEN NOT MATCHED THEN INSERT " +
+                   "(member_id, card_count, public_card_count, friend_count, created_at, updated_at) " +
+                   "VALUES (v.member_id, :cardCount, :publicCardCount, :friendCount, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    int initializeOrIncrementByMerge(@Param("memberId") UUID memberId,
+                                     @Param("cardCount") int cardCount,
+                                     @Param("publicCardCount") int publicCardCount,
+                                     @Param("friendCount") int friendCount,
+                                     @Param("cardDelta") int cardDelta,
+                                     @Param("publicCardDelta") int publicCardDelta,
+                                     @Param("friendDelta") int friendDelta);
+}
@@ -177,4 +177,18 @@ public interface StoryRepository extends JpaRepository<Story, Long> {
      * @return 존재 여부
      */
     boolean existsByMemberIdAndTitle(UUID memberId, String title);
-} 
\ No newline at end of file
+
+    /**
+     * 현재 프롬프트 버전으로 분류되지 않은 스토리 ID 와 작성자를 조회합니다 (분류 백필용, 최신순)
+     * 처리 중이거나 대기 중인 작업, 최근 최종 실패한 작업이 있는 스토리는 제외합니다.
+     * @param promptVersion 현재 분류 프롬프트 버전
+     * @param pageable 조회 개수 (page 는 항상 0)
+     * @return [id, memberId] 배열 목록
+     */
+    @Query("SELECT s.id, s.memberId FROM Story s " +
+           "WHERE (s.classificationPromptVersion IS NULL OR s.classificationPromptVersion <> :promptVersion) " +
+           "AND NOT EXISTS (SELECT 1 FROM ClassificationJob j WHERE j.storyId = s.id " +
+           "AND j.status <> com.voin.constant.ClassificationJobStatus.DONE) " +
+           "ORDER BY s.id DESC")
+    List<Object[]> findUnclassifiedStoryKeys(@Param("promptVersion") String promptVersion, Pageable pageable);
+}
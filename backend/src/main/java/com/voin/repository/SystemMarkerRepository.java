@@ -0,0 +1,40 @@
+package com.voin.repository;
+
+import com.voin.entity.SystemMarker;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 초기화 작업 완료 표시(SystemMarker)에 대한 데이터 접근 계층
+ */
+@Repository
+public interface SystemMarkerRepository extends JpaRepository<SystemMarker, String> {
+
+    /**
+     * 작업 표시를 남깁니다 (이미 있으면 아무것도 하지 않음, PostgreSQL)
+     * 다른 트랜잭션이 같은 이름으로 먼저 INSERT 했으면 그 트랜잭션이 끝날 때까지 기다립니다.
+     * @param name 작업 이름
+     * @return 이번에 처음 남겼으면 1, 이미 있었으면 0
+     */
+    @Modifying
+    @Query(value = "INSERT INTO system_markers (name, created_at, updated_at) " +
+                   "VALUES (:name, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) ON CONFLICT (name) DO NOTHING",
+           nativeQuery = true)
+    int claim(@Param("name") String name);
+
+    /**
+     * claim 의 표준 MERGE 버전 (PostgreSQL 이 아닌 DB, 예: H2)
+     * @param name 작업 이름
+     * @return 이번에 처음 남겼으면 1, 이미 있었으면 0
+     */
+    @Modifying
+    @Query(value = "MERGE INTO system_markers m " +
+                   "USING (VALUES (CAST(:name AS VARCHAR(100)))) AS s (name) ON m.name = s.name " +
+                   "WHEN NOT MATCHED THEN INSERT (name, created_at, updated_at) " +
+                   "VALUES (s.name, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)",
+           nativeQuery = true)
+    int claimByMerge(@Param("name") String name);
+}
@@ -0,0 +1,103 @@
+package com.voin.repository;
+
+import com.voin.entity.TimelineEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 친구 타임라인(TimelineEntry) 엔티티에 대한 데이터 접근 계층
+ */
+@Repository
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, Long> {
+
+    // === 타임라인 조회 ===
+
+    /**
+     * 회원 타임라인의 첫 페이지를 조회합니다 (최신순)
+     * @param memberId 타임라인 주인 ID
+     * @param pageable 조회 위치와 개수
+     * @return 타임라인 항목 목록
+     */
+    @Query("SELECT t FROM TimelineEntry t " +
+           "WHERE t.memberId = :memberId " +
+           "ORDER BY t.cardCreatedAt DESC, t.cardId DESC")
+    List<TimelineEntry> findTimeline(@Param("memberId") UUID memberId, Pageable pageable);
+
+    /**
+     * 커서 이후의 타임라인을 조회합니다 (최신순)
+     * @param memberId 타임라인 주인 ID
+     * @param createdAt 커서의 카드 생성 시간
+     * @param cardId 커서의 카드 ID
+     * @param pageable 조회 개수 (page 는 항상 0)
+     * @return 타임라인 항목 목록
+     */
+    @Query("SELECT t FROM TimelineEntry t " +
+           "WHERE t.memberId = :memberId " +
+           "AND (t.cardCreatedAt < :createdAt OR (t.cardCreatedAt = :createdAt AND t.cardId < :cardId)) " +
+           "ORDER BY t.cardCreatedAt DESC, t.cardId DESC")
+    List<TimelineEntry> findTimelineAfter(@Param("memberId") UUID memberId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("cardId") Long cardId,
+                                          Pageable pageable);
+
+    /**
+     * 주어진 회원 중 타임라인 항목이 maxSize 개를 넘는 회원을 찾습니다
+     * @param memberIds 확인할 회원 ID 목록
+     * @param maxSize 타임라인 최대 길이
+     * @return 잘라내야 하는 회원 ID 목록
+     */
+    @Query("SELECT t.memberId FROM TimelineEntry t WHERE t.memberId IN :memberIds " +
+           "GROUP BY t.memberId HAVING COUNT(t) > :maxSize")
+    List<UUID> findMemberIdsExceeding(@Param("memberIds") Collection<UUID> memberIds,
+                                      @Param("maxSize") long maxSize);
+
+    // === 삭제 쿼리 ===
+
+    /**
+     * 회원 타임라인에서 기준 항목보다 오래된 항목을 제거합니다
+     * @param memberId 타임라인 주인 ID
+     * @param createdAt 기준 항목의 카드 생성 시간
+     * @param cardId 기준 항목의 카드 ID
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.memberId = :memberId " +
+           "AND (t.cardCreatedAt < :createdAt OR (t.cardCreatedAt = :createdAt AND t.cardId < :cardId))")
+    int deleteOlderThan(@Param("memberId") UUID memberId,
+                        @Param("createdAt") LocalDateTime createdAt,
+                        @Param("cardId") Long cardId);
+
+    /**
+     * 모든 타임라인에서 특정 카드를 제거합니다
+     * @param cardId 카드 ID
+     */
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.cardId = :cardId")
+    void deleteByCardId(@Param("cardId") Long cardId);
+
+    /**
+     * 회원 타임라인에서 특정 작성자의 카드를 모두 제거합니다
+     * @param memberId 타임라인 주인 ID
+     * @param authorId 작성자 ID
+     */
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.memberId = :memberId AND t.authorId = :authorId")
+    void deleteByMemberIdAndAuthorId(@Param("memberId") UUID memberId, @Param("authorId") UUID authorId);
+
+    /**
+     * 회원의 타임라인과, 다른 타임라인에 있는 그 회원의 카드를 모두 제거합니다 (회원 탈퇴)
+     * @param memberId 회원 ID
+     */
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.memberId = :memberId OR t.authorId = :memberId")
+    void deleteByMemberIdOrAuthorId(@Param("memberId") UUID memberId);
+}
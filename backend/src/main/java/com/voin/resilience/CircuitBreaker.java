@@ -0,0 +1,131 @@
+package com.voin.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 개수 기반 슬라이딩 윈도우 서킷 브레이커
+ *
+ * - CLOSED: 최근 windowSize 건 중 실패 비율이 임계치를 넘으면 (최소 minimumCalls 건 이후) OPEN
+ * - OPEN: openMillis 동안 모든 호출을 바로 거절
+ * - HALF_OPEN: 시험 호출 한 건만 통과시켜 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openMillis;
+    private final LongSupplier clock;
+
+    // 최근 호출 결과 (true = 실패) 를 원형 버퍼로 보관
+    private final boolean[] outcomes;
+    private int recorded;
+    private int cursor;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openMillis) {
+        this(windowSize, minimumCalls, failureRateThreshold, openMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock 현재 시각(밀리초) 공급자 (테스트에서 시간을 직접 움직일 때)
+     */
+    CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long openMillis, LongSupplier clock) {
+        this.clock = clock;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openMillis = openMillis;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * 호출을 시작해도 되는지 확인합니다 (허용했으면 결과를 반드시 onSuccess/onFailure/onIgnored 로 알려야 함)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openMillis) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            reset();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+            open();
+        }
+    }
+
+    /**
+     * 결과를 판단할 수 없이 끝난 호출 (예: 클라이언트 취소)
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State getState() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openMillis) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (recorded == windowSize) {
+            if (outcomes[cursor]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[cursor] = failure;
+        if (failure) {
+            failures++;
+        }
+        cursor = (cursor + 1) % windowSize;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+        trialInFlight = false;
+    }
+
+    private void reset() {
+        state = State.CLOSED;
+        trialInFlight = false;
+        recorded = 0;
+        cursor = 0;
+        failures = 0;
+    }
+}
@@ -0,0 +1,247 @@
+package com.voin.resilience;
+
+import com.voin.exception.GptRejectedException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * OpenAI 호출 보호 계층
+ *
+ * 엔드포인트(classify, summarize ...)마다 정책(GptResilienceProperties)을 따로 적용합니다.
+ * 1. 요청 한도: 회원별 + 엔드포인트 전체 토큰 버킷 → 429
+ * 2. 동시 호출 한도(bulkhead): 세마포어, 가득 차면 기다리지 않고 → 503
+ * 3. 서킷 브레이커: OpenAI 실패가 이어지면 일정 시간 호출하지 않고 → 503
+ * 각 단계의 허용/거절 수와 현재 상태는 metrics() 로 조회합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GptGuard {
+
+    private static final int MIN_TRACKED_CLIENTS = 10000;
+
+    private final GptResilienceProperties properties;
+
+    private final Map<String, EndpointGuard> guards = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 한도를 확인합니다 (한도를 넘으면 GptRejectedException)
+     * @param clientKey 회원 ID (비로그인이면 IP)
+     */
+    public void checkRateLimit(String endpoint, String clientKey) {
+        EndpointGuard guard = guardFor(endpoint);
+        guard.requests.increment();
+        TokenBucket clientBucket = guard.clientBucket(clientKey);
+        if (!clientBucket.tryAcquire()) {
+            guard.memberRateLimited.increment();
+            throw new GptRejectedException(HttpStatus.TOO_MANY_REQUESTS, "GPT_001",
+                    "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (!guard.globalBucket.tryAcquire()) {
+            guard.globalRateLimited.increment();
+            throw new GptRejectedException(HttpStatus.TOO_MANY_REQUESTS, "GPT_002",
+                    "현재 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        guard.track(clientKey, clientBucket);
+    }
+
+    /**
+     * OpenAI 호출을 동시 호출 한도와 서킷 브레이커로 감쌉니다
+     * 거절되면 호출을 시작하지 않고 GptRejectedException 으로 끝나는 Mono 를 반환합니다.
+     */
+    public <T> Mono<T> protect(String endpoint, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            EndpointGuard guard = guardFor(endpoint);
+            GptRejectedException rejected = tryEnter(guard);
+            if (rejected != null) {
+                return Mono.error(rejected);
+            }
+            return Mono.defer(call)
+                    .doOnSuccess(value -> onSuccess(guard))
+                    .doOnError(e -> onError(guard, e))
+                    .doOnCancel(guard.breaker::onIgnored)
+                    .doFinally(signal -> guard.bulkhead.release());
+        });
+    }
+
+    /**
+     * 스트리밍 호출용 protect (스트림이 끝날 때까지 동시 호출 한도를 차지)
+     */
+    public <T> Flux<T> protectMany(String endpoint, Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            EndpointGuard guard = guardFor(endpoint);
+            GptRejectedException rejected = tryEnter(guard);
+            if (rejected != null) {
+                return Flux.error(rejected);
+            }
+            return Flux.defer(call)
+                    .doOnComplete(() -> onSuccess(guard))
+                    .doOnError(e -> onError(guard, e))
+                    .doOnCancel(guard.breaker::onIgnored)
+                    .doFinally(signal -> guard.bulkhead.release());
+        });
+    }
+
+    /**
+     * 서킷 브레이커와 동시 호출 한도를 통과하면 null, 아니면 거절 사유
+     */
+    private GptRejectedException tryEnter(EndpointGuard guard) {
+        if (!guard.breaker.tryAcquire()) {
+            guard.breakerRejected.increment();
+            return new GptRejectedException(HttpStatus.SERVICE_UNAVAILABLE, "GPT_003",
+                    "AI 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요.");
+        }
+        if (!guard.bulkhead.tryAcquire()) {
+            guard.breaker.onIgnored();
+            guard.bulkheadRejected.increment();
+            return new GptRejectedException(HttpStatus.SERVICE_UNAVAILABLE, "GPT_004",
+                    "AI 요청이 밀려 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return null;
+    }
+
+    private void onSuccess(EndpointGuard guard) {
+        guard.upstreamSuccess.increment();
+        guard.breaker.onSuccess();
+    }
+
+    private void onError(EndpointGuard guard, Throwable e) {
+        if (isUpstreamFailure(e)) {
+            guard.upstreamFailure.increment();
+            guard.breaker.onFailure();
+        } else {
+            onSuccess(guard);
+        }
+    }
+
+    /**
+     * 엔드포인트별 지표
+     */
+    public Map<String, Object> metrics() {
+        Map<String, Object> result = new TreeMap<>();
+        guards.forEach((endpoint, guard) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            values.put("requests", guard.requests.sum());
+            values.put("memberRateLimited", guard.memberRateLimited.sum());
+            values.put("globalRateLimited", guard.globalRateLimited.sum());
+            values.put("bulkheadRejected", guard.bulkheadRejected.sum());
+            values.put("breakerRejected", guard.breakerRejected.sum());
+            values.put("upstreamSuccess", guard.upstreamSuccess.sum());
+            values.put("upstreamFailure", guard.upstreamFailure.sum());
+            values.put("inFlight", guard.maxConcurrentCalls - guard.bulkhead.availablePermits());
+            values.put("maxConcurrentCalls", guard.maxConcurrentCalls);
+            values.put("breakerState", guard.breaker.getState().name());
+            result.put(endpoint, values);
+        });
+        return result;
+    }
+
+    /**
+     * 서킷 브레이커에 실패로 기록할 오류인지 (요청 자체가 잘못된 4xx 는 OpenAI 장애가 아님)
+     */
+    private boolean isUpstreamFailure(Throwable e) {
+        if (e instanceof WebClientResponseException response) {
+            int status = response.getStatusCode().value();
+            return status == 429 || status >= 500;
+        }
+        return true;
+    }
+
+    private EndpointGuard guardFor(String endpoint) {
+        return guards.computeIfAbsent(endpoint, name -> {
+            GptResilienceProperties.Policy policy = properties.policyFor(name);
+            log.info("GPT guard for '{}': {} req/min per member, {} req/s global, {} concurrent calls",
+                    name, policy.getMemberRequestsPerMinute(), policy.getGlobalRequestsPerSecond(),
+                    policy.getMaxConcurrentCalls());
+            return new EndpointGuard(policy);
+        });
+    }
+
+    private static class EndpointGuard {
+
+        private final GptResilienceProperties.Policy policy;
+        private final TokenBucket globalBucket;
+        private final Semaphore bulkhead;
+        private final int maxConcurrentCalls;
+        private final CircuitBreaker breaker;
+
+        private final int maxTrackedClients;
+
+        /**
+         * 회원(IP)별 버킷 LRU
+         *
+         * 버킷을 잃으면 그 클라이언트의 한도가 가득 찬 상태로 초기화되므로,
+         * 다른 키를 돌려 써서 자기 버킷을 밀어내는 우회를 막도록 다음과 같이 관리합니다.
+         * - 새 키는 요청이 전체 한도까지 통과했을 때만 등록 (거절된 요청으로는 LRU 를 채울 수 없음)
+         * - 크기는 "버킷 하나가 빈 상태에서 다시 가득 차는 동안 전체 한도가 통과시킬 수 있는 요청 수" 이상
+         * 따라서 밀려나는 버킷은 이미 가득 찼을 만큼 오래 쓰이지 않은 버킷뿐이고, 지워도 한도가 느슨해지지 않습니다.
+         */
+        private final Map<String, TokenBucket> clientBuckets;
+
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder memberRateLimited = new LongAdder();
+        private final LongAdder globalRateLimited = new LongAdder();
+        private final LongAdder bulkheadRejected = new LongAdder();
+        private final LongAdder breakerRejected = new LongAdder();
+        private final LongAdder upstreamSuccess = new LongAdder();
+        private final LongAdder upstreamFailure = new LongAdder();
+
+        private EndpointGuard(GptResilienceProperties.Policy policy) {
+            this.policy = policy;
+            this.globalBucket = new TokenBucket(policy.getGlobalBurst(), policy.getGlobalRequestsPerSecond());
+            this.maxConcurrentCalls = policy.getMaxConcurrentCalls();
+            this.bulkhead = new Semaphore(maxConcurrentCalls);
+            this.breaker = new CircuitBreaker(policy.getBreakerWindowSize(), policy.getBreakerMinimumCalls(),
+                    policy.getBreakerFailureRateThreshold(), policy.getBreakerOpenSeconds() * 1000);
+            this.maxTrackedClients = trackedClientsFor(policy);
+            this.clientBuckets = new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, TokenBucket> eldest) {
+                    return size() > maxTrackedClients;
+                }
+            };
+        }
+
+        private static int trackedClientsFor(GptResilienceProperties.Policy policy) {
+            if (policy.getMemberRequestsPerMinute() <= 0) {
+                return MIN_TRACKED_CLIENTS;
+            }
+            double refillSeconds = policy.getMemberBurst() * 60d / policy.getMemberRequestsPerMinute();
+            double admitted = policy.getGlobalBurst() + policy.getGlobalRequestsPerSecond() * refillSeconds;
+            return (int) Math.min(Integer.MAX_VALUE, Math.max(MIN_TRACKED_CLIENTS, Math.ceil(admitted)));
+        }
+
+        /**
+         * 등록된 버킷, 처음 보는 키면 아직 등록하지 않은 새 버킷
+         */
+        private TokenBucket clientBucket(String clientKey) {
+            synchronized (clientBuckets) {
+                TokenBucket bucket = clientBuckets.get(clientKey);
+                return bucket != null ? bucket : new TokenBucket(
+                        policy.getMemberBurst(), policy.getMemberRequestsPerMinute() / 60d);
+            }
+        }
+
+        /**
+         * 통과한 요청의 버킷을 등록합니다 (동시에 들어온 첫 요청끼리는 먼저 등록된 버킷을 유지)
+         */
+        private void track(String clientKey, TokenBucket bucket) {
+            synchronized (clientBuckets) {
+                clientBuckets.putIfAbsent(clientKey, bucket);
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.voin.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GPT 엔드포인트별 보호 정책 (voin.gpt.resilience.endpoints.<이름>.*)
+ *
+ * 예)
+ * voin.gpt.resilience.endpoints.classify.member-requests-per-minute=20
+ * voin.gpt.resilience.endpoints.summarize.max-concurrent-calls=5
+ * 설정하지 않은 엔드포인트와 항목은 Policy 의 기본값을 사용합니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "voin.gpt.resilience")
+public class GptResilienceProperties {
+
+    private Map<String, Policy> endpoints = new HashMap<>();
+
+    public Policy policyFor(String endpoint) {
+        return endpoints.getOrDefault(endpoint, new Policy());
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        // 회원(비로그인은 IP)별 토큰 버킷
+        private int memberRequestsPerMinute = 10;
+        private int memberBurst = 5;
+        // 엔드포인트 전체 토큰 버킷
+        private int globalRequestsPerSecond = 5;
+        private int globalBurst = 20;
+        // 동시에 진행할 수 있는 OpenAI 호출 수 (넘으면 바로 거절)
+        private int maxConcurrentCalls = 20;
+        // 서킷 브레이커
+        private int breakerWindowSize = 20;
+        private int breakerMinimumCalls = 10;
+        private double breakerFailureRateThreshold = 0.5;
+        private long breakerOpenSeconds = 30;
+    }
+}
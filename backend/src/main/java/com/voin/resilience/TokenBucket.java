@@ -0,0 +1,50 @@
+package com.voin.resilience;
+
+import java.util.function.LongSupplier;
+
+/**
+ * 토큰 버킷 (요청 1건 = 토큰 1개)
+ *
+ * capacity 만큼 순간적으로 몰린 요청을 허용하고, 이후에는 초당 refillPerSecond 개 속도로만 허용합니다.
+ * 토큰은 호출 시점에 경과 시간만큼 한꺼번에 채우므로 별도 스레드가 필요 없습니다.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double capacity, double refillPerSecond) {
+        this(capacity, refillPerSecond, System::nanoTime);
+    }
+
+    /**
+     * @param nanoClock 현재 시각(나노초) 공급자 (테스트에서 시간을 직접 움직일 때)
+     */
+    TokenBucket(double capacity, double refillPerSecond, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.nanoClock = nanoClock;
+        this.tokens = capacity;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * 토큰 하나를 꺼냅니다
+     * @return 꺼냈으면 true, 비어 있으면 false (기다리지 않음)
+     */
+    public synchronized boolean tryAcquire() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens -= 1;
+        return true;
+    }
+}
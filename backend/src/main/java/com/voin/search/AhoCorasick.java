@@ -0,0 +1,114 @@
+package com.voin.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * 여러 패턴을 한 번에 찾는 Aho-Corasick 오토마톤
+ *
+ * 패턴 수와 관계없이 본문을 한 번만 훑으므로 (O(본문 길이 + 일치 수))
+ * 키워드 사전처럼 패턴이 많고 본문이 짧은 경우에 적합합니다.
+ * 생성 후에는 변경하지 않으므로 여러 스레드에서 동시에 검색해도 안전합니다.
+ *
+ * @param <T> 패턴에 붙는 값
+ */
+final class AhoCorasick<T> {
+
+    private final Node<T> root;
+    private final int patternCount;
+
+    private AhoCorasick(Node<T> root, int patternCount) {
+        this.root = root;
+        this.patternCount = patternCount;
+    }
+
+    static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    int patternCount() {
+        return patternCount;
+    }
+
+    /**
+     * 본문에서 일치하는 모든 패턴의 값을 등장 순서대로 전달합니다 (겹치는 일치 포함)
+     * @param onMatch (값, 일치가 끝난 다음 위치) 를 받음
+     */
+    void scan(String text, ObjIntConsumer<T> onMatch) {
+        Node<T> node = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (node != root && !node.next.containsKey(c)) {
+                node = node.fail;
+            }
+            node = node.next.getOrDefault(c, root);
+            for (T value : node.outputs) {
+                onMatch.accept(value, i + 1);
+            }
+        }
+    }
+
+    static final class Builder<T> {
+
+        private final Node<T> root = new Node<>();
+        private int patternCount;
+
+        private Builder() {
+        }
+
+        /**
+         * 패턴을 추가합니다 (빈 패턴은 무시, 같은 패턴에 여러 값을 붙일 수 있음)
+         */
+        Builder<T> add(String pattern, T value) {
+            if (pattern == null || pattern.isEmpty()) {
+                return this;
+            }
+            Node<T> node = root;
+            for (int i = 0; i < pattern.length(); i++) {
+                node = node.next.computeIfAbsent(pattern.charAt(i), c -> new Node<>());
+            }
+            node.outputs.add(value);
+            patternCount++;
+            return this;
+        }
+
+        /**
+         * 실패 링크를 너비 우선으로 연결하고, 접미사 패턴의 값을 각 노드 출력에 합칩니다
+         */
+        AhoCorasick<T> build() {
+            Queue<Node<T>> queue = new ArrayDeque<>();
+            root.fail = root;
+            for (Node<T> child : root.next.values()) {
+                child.fail = root;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                Node<T> node = queue.poll();
+                for (Map.Entry<Character, Node<T>> edge : node.next.entrySet()) {
+                    char c = edge.getKey();
+                    Node<T> child = edge.getValue();
+                    Node<T> fail = node.fail;
+                    while (fail != root && !fail.next.containsKey(c)) {
+                        fail = fail.fail;
+                    }
+                    Node<T> target = fail.next.get(c);
+                    child.fail = target != null && target != child ? target : root;
+                    child.outputs.addAll(child.fail.outputs);
+                    queue.add(child);
+                }
+            }
+            return new AhoCorasick<>(root, patternCount);
+        }
+    }
+
+    private static final class Node<T> {
+        private final Map<Character, Node<T>> next = new HashMap<>();
+        private final List<T> outputs = new ArrayList<>(1);
+        private Node<T> fail;
+    }
+}
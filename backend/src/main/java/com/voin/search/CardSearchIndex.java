@@ -0,0 +1,34 @@
+package com.voin.search;
+
+import com.voin.entity.Card;
+
+import java.util.List;
+
+/**
+ * 공개 카드 내용 검색 인덱스
+ *
+ * 구현체는 voin.search.engine 설정값으로 선택합니다.
+ * - memory (기본값): 애플리케이션 메모리의 문자 n-gram 역색인 (H2/로컬/테스트용)
+ * - postgres: PostgreSQL GIN 인덱스(pg_trgm, 짧은 검색어는 unigram/bigram)를 사용하는 검색
+ */
+public interface CardSearchIndex {
+
+    /**
+     * 카드를 인덱스에 반영합니다 (생성/수정/공개 설정 변경 시 호출)
+     * 비공개 카드는 인덱스에서 제거됩니다.
+     */
+    void index(Card card);
+
+    /**
+     * 카드를 인덱스에서 제거합니다 (삭제 시 호출)
+     */
+    void remove(Long cardId);
+
+    /**
+     * 검색어와 일치하는 공개 카드 ID를 관련도 순으로 반환합니다
+     * @param query 검색어
+     * @param limit 최대 결과 수
+     * @return 카드 ID 목록 (관련도 높은 순)
+     */
+    List<Long> search(String query, int limit);
+}
@@ -0,0 +1,167 @@
+package com.voin.search;
+
+import com.voin.entity.Card;
+import com.voin.repository.CardRepository;
+import com.voin.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 기반 카드 검색 인덱스 (문자 n-gram 역색인)
+ *
+ * 애플리케이션 시작 시 공개 카드를 한 번 읽어 인덱스를 만들고,
+ * 이후에는 카드 생성/수정/삭제 때마다 해당 카드만 갱신합니다. (트랜잭션 안이면 커밋 이후에 반영)
+ *
+ * 랭킹:
+ * 1. 검색어 n-gram 중 일치한 비율 (coverage)
+ * 2. 카드 n-gram 중 일치한 비율 (짧고 밀도 높은 카드 우선)
+ * 3. 최신 카드 우선 (ID 내림차순)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "voin.search.engine", havingValue = "memory", matchIfMissing = true)
+public class InMemoryCardSearchIndex implements CardSearchIndex {
+
+    // 검색어 n-gram 의 절반 이상이 일치해야 결과에 포함
+    private static final double MIN_COVERAGE = 0.5;
+
+    private final CardRepository cardRepository;
+
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<Long, Set<String>> gramsByCard = new HashMap<>();
+    // put/delete 는 쓰기 락 안에서만 호출 (load 와 AfterCommit.run 이 잡아 줌)
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> rows = cardRepository.findPublicCardContents();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            gramsByCard.clear();
+            for (Object[] row : rows) {
+                put((Long) row[0], (String) row[1]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Card search index built: {} public cards, {} grams", gramsByCard.size(), postings.size());
+    }
+
+    @Override
+    public void index(Card card) {
+        if (card == null || card.getId() == null) {
+            return;
+        }
+        // 커밋 시점의 엔티티가 아니라 지금 값으로 반영
+        Long cardId = card.getId();
+        String content = card.isPublic() ? card.getContent() : null;
+        AfterCommit.run(lock, () -> {
+            delete(cardId);
+            if (content != null) {
+                put(cardId, content);
+            }
+        });
+    }
+
+    @Override
+    public void remove(Long cardId) {
+        AfterCommit.run(lock, () -> delete(cardId));
+    }
+
+    @Override
+    public List<Long> search(String query, int limit) {
+        Set<String> queryGrams = SearchTextNormalizer.queryGrams(SearchTextNormalizer.normalize(query));
+        if (queryGrams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        Map<Long, Integer> hits = new HashMap<>();
+        Map<Long, Integer> docSizes = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (String gram : queryGrams) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    continue;
+                }
+                for (Long id : ids) {
+                    hits.merge(id, 1, Integer::sum);
+                }
+            }
+            for (Long id : hits.keySet()) {
+                docSizes.put(id, gramsByCard.get(id).size());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int total = queryGrams.size();
+        List<Map.Entry<Long, Integer>> candidates = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : hits.entrySet()) {
+            if ((double) entry.getValue() / total >= MIN_COVERAGE) {
+                candidates.add(entry);
+            }
+        }
+
+        candidates.sort((a, b) -> {
+            int byCoverage = Integer.compare(b.getValue(), a.getValue());
+            if (byCoverage != 0) {
+                return byCoverage;
+            }
+            double densityA = (double) a.getValue() / docSizes.get(a.getKey());
+            double densityB = (double) b.getValue() / docSizes.get(b.getKey());
+            int byDensity = Double.compare(densityB, densityA);
+            if (byDensity != 0) {
+                return byDensity;
+            }
+            return Long.compare(b.getKey(), a.getKey());
+        });
+
+        return candidates.stream()
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private void put(Long cardId, String content) {
+        Set<String> grams = SearchTextNormalizer.grams(SearchTextNormalizer.normalize(content));
+        if (grams.isEmpty()) {
+            return;
+        }
+        gramsByCard.put(cardId, grams);
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, k -> new HashSet<>()).add(cardId);
+        }
+    }
+
+    private void delete(Long cardId) {
+        Set<String> grams = gramsByCard.remove(cardId);
+        if (grams == null) {
+            return;
+        }
+        for (String gram : grams) {
+            Set<Long> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(cardId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.voin.search;
+
+import com.voin.repository.KeywordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 장점 분류에 쓰는 키워드 목록 (키워드 이름, 설명, 카테고리)
+ *
+ * KeywordPreClassifier(사전)와 GptClassifyPrompt(시스템 프롬프트)가 이 목록 하나에서 각자 필요한 구조를 만듭니다.
+ * 소비자는 entries() 가 돌려준 리스트가 바뀌었을 때(참조 비교)만 다시 만들면 됩니다.
+ *
+ * DataInitializer 가 키워드를 다시 만든 뒤 읽고, 운영 중 마스터 데이터 변경은 10분마다 반영합니다.
+ * 키워드가 아직 없으면 (DataInitializer 전) 조회 때 1분에 한 번만 다시 읽습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordCatalog {
+
+    private static final long RELOAD_RETRY_MILLIS = 60_000;
+
+    private final KeywordRepository keywordRepository;
+
+    private volatile List<Entry> entries;
+    private volatile long lastLazyReloadMillis;
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reload() {
+        List<Object[]> rows = keywordRepository.findAllForClassification();
+        List<Entry> loaded = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            loaded.add(new Entry((String) row[0], (String) row[1], (String) row[2]));
+        }
+        // 내용이 같으면 기존 리스트를 유지해 소비자가 다시 만들지 않도록 함
+        if (!loaded.equals(entries)) {
+            entries = List.copyOf(loaded);
+            log.info("Keyword catalog loaded: {} keywords", loaded.size());
+        }
+    }
+
+    /**
+     * 운영 중 키워드 정의가 바뀌면 반영합니다 (키워드 수십 개 조회라 가벼움)
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    public void refresh() {
+        reload();
+    }
+
+    /**
+     * 현재 키워드 목록 (카테고리 순, 카테고리 안에서는 키워드 ID 순)
+     */
+    public List<Entry> entries() {
+        List<Entry> current = entries;
+        if (current == null || current.isEmpty()) {
+            long now = System.currentTimeMillis();
+            if (current == null || now - lastLazyReloadMillis >= RELOAD_RETRY_MILLIS) {
+                lastLazyReloadMillis = now;
+                reload();
+                current = entries;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @param keyword 키워드 이름
+     * @param description 키워드 정의 (없을 수 있음)
+     * @param category 장점 카테고리 (코인 이름)
+     */
+    public record Entry(String keyword, String description, String category) {
+    }
+}
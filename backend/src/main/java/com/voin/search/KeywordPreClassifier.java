@@ -0,0 +1,256 @@
+package com.voin.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 키워드 사전 기반 장점 분류기 (GPT 호출 전 단계)
+ *
+ * 키워드 이름, 자주 쓰이는 표현(동의어), 설명의 핵심 단어로 Aho-Corasick 사전을 만들고
+ * 글을 한 번 훑어 키워드별 점수를 매깁니다. 한 키워드가 확실히 앞설 때만 결과를 내고,
+ * 애매하면 빈 결과를 돌려 GPT 분류로 넘깁니다.
+ *
+ * 점수: 키워드 이름 3, 동의어 2, 설명 단어 1 (같은 표현은 여러 번 나와도 한 번만)
+ * 확신 조건: 서로 다른 표현 2개 이상 + 최고 점수 4 이상 + 2위의 2배 이상
+ * (이름 하나만 나온 글은 "반찬 용기" 같은 동음이의어일 수 있어 GPT 로 넘김)
+ * 바로 뒤에 "없/않/못/아니/부족", 바로 앞에 "안/못" 이 붙은 표현은 부정으로 보고 세지 않습니다.
+ *
+ * 키워드 목록은 KeywordCatalog 에서 받고, 목록이 바뀌면 다음 분류 때 사전을 다시 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordPreClassifier {
+
+    private static final int NAME_WEIGHT = 3;
+    private static final int SYNONYM_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final int MIN_SCORE = NAME_WEIGHT + DESCRIPTION_WEIGHT;
+    private static final int MIN_TERMS = 2;
+    private static final int MIN_LEAD_RATIO = 2;
+    private static final int DESCRIPTION_STEM_LENGTH = 2;
+
+    // 표현 바로 뒤(공백 제거 후 NEGATION_WINDOW 글자 안)에 오면 부정 ("책임감이 없다", "참지 못했다")
+    private static final List<String> NEGATION_SUFFIXES = List.of("없", "않", "못", "아니", "부족");
+    private static final int NEGATION_WINDOW = 4;
+    // 표현 바로 앞에 오면 부정 ("안 참았다", "못 견뎠다")
+    private static final Set<Character> NEGATION_PREFIXES = Set.of('안', '못');
+
+    // 설명에 흔히 나오지만 장점을 구분하지 못하는 단어
+    private static final Set<String> DESCRIPTION_STOPWORDS = Set.of(
+            "태도", "능력", "자세", "마음", "성향", "힘", "하는", "있게", "않고", "새로",
+            "상황", "타인", "자신", "주변", "하나", "무언", "대상", "일이", "일을");
+
+    // 키워드 이름 대신 글에 자주 등장하는 표현 (공백은 정규화 시 제거됨)
+    private static final Map<String, List<String>> SYNONYMS = Map.ofEntries(
+            Map.entry("끈기", List.of("포기하지 않", "끝까지", "다시 도전")),
+            Map.entry("인내심", List.of("참았", "견뎠", "버텼", "견디")),
+            Map.entry("성실함", List.of("성실", "꾸준히", "빠짐없이")),
+            Map.entry("절제력", List.of("절제", "자제", "유혹")),
+            Map.entry("침착함", List.of("침착", "차분", "당황하지 않")),
+            Map.entry("학습력", List.of("배웠", "익혔", "배우")),
+            Map.entry("성찰력", List.of("돌아보", "돌아봤", "반성")),
+            Map.entry("적응력", List.of("적응", "익숙해")),
+            Map.entry("수용성", List.of("피드백", "받아들", "조언")),
+            Map.entry("유머 감각", List.of("유머", "웃겼", "농담", "웃음")),
+            Map.entry("감수성", List.of("감동", "울컥", "눈물")),
+            Map.entry("표현력", List.of("표현", "솔직하게 말")),
+            Map.entry("밝은 에너지", List.of("활기", "에너지", "밝게")),
+            Map.entry("긍정성", List.of("긍정", "좋게 생각")),
+            Map.entry("열정", List.of("열정", "열심히")),
+            Map.entry("호기심", List.of("궁금")),
+            Map.entry("탐구력", List.of("탐구", "파고들", "조사해", "조사했")),
+            Map.entry("창의력", List.of("창의", "아이디어", "새로운 방법")),
+            Map.entry("집중력", List.of("집중")),
+            Map.entry("몰입력", List.of("몰입", "시간 가는 줄")),
+            Map.entry("기획력", List.of("기획", "구상")),
+            Map.entry("판단력", List.of("판단")),
+            Map.entry("논리력", List.of("논리", "근거")),
+            Map.entry("분석력", List.of("분석")),
+            Map.entry("통찰력", List.of("통찰", "본질")),
+            Map.entry("신중성", List.of("신중", "꼼꼼")),
+            Map.entry("문제해결력", List.of("해결")),
+            Map.entry("융통성", List.of("융통", "유연하게")),
+            Map.entry("공감력", List.of("공감")),
+            Map.entry("배려심", List.of("배려", "양보", "챙겨")),
+            Map.entry("포용력", List.of("포용", "다름을 인정")),
+            Map.entry("경청 태도", List.of("경청", "들어주", "이야기를 들")),
+            Map.entry("친화력", List.of("친해", "어울리", "먼저 말을 걸")),
+            Map.entry("지지력", List.of("응원", "지지", "믿어주")),
+            Map.entry("온화함", List.of("온화", "다정", "따뜻하게")),
+            Map.entry("중재력", List.of("중재", "화해")),
+            Map.entry("조율력", List.of("조율", "조정", "의견을 모")),
+            Map.entry("겸손함", List.of("겸손")),
+            Map.entry("예의 바름", List.of("예의", "공손")),
+            Map.entry("신념", List.of("소신", "믿음")),
+            Map.entry("주체성", List.of("주체", "스스로")),
+            Map.entry("정직함", List.of("정직", "거짓말", "사실대로")),
+            Map.entry("정의감", List.of("정의롭", "불의", "부당")),
+            Map.entry("도덕심", List.of("도덕", "양심")),
+            Map.entry("용기", List.of("두려움을 이기", "용기 내")),
+            Map.entry("결단력", List.of("결단", "과감")),
+            Map.entry("주도성", List.of("주도", "앞장")),
+            Map.entry("실행력", List.of("실행", "실천")),
+            Map.entry("리더십", List.of("리더", "이끌")),
+            Map.entry("공정성", List.of("공정", "공평")),
+            Map.entry("책임감", List.of("책임", "맡은 일")),
+            Map.entry("계획성", List.of("계획", "미리 준비")),
+            Map.entry("도전력", List.of("도전", "처음으로 시도")));
+
+    private final KeywordCatalog keywordCatalog;
+
+    private volatile Dictionary dictionary;
+
+    /**
+     * 글을 사전으로 분류합니다
+     * @param text 사용자가 작성한 글
+     * @return 확신할 수 있으면 (카테고리, 키워드), 애매하면 빈 값
+     */
+    public Optional<Result> classify(String text) {
+        Dictionary current = current();
+        String normalized = SearchTextNormalizer.normalize(text);
+        if (normalized.isEmpty() || current.entries().isEmpty()) {
+            return Optional.empty();
+        }
+
+        Set<Term> matched = new HashSet<>();
+        current.automaton().scan(normalized, (term, end) -> {
+            if (!isNegated(normalized, end - term.pattern().length(), end)) {
+                matched.add(term);
+            }
+        });
+        int[] scores = new int[current.entries().size()];
+        int[] termCounts = new int[scores.length];
+        for (Term term : matched) {
+            scores[term.candidate()] += term.weight();
+            termCounts[term.candidate()]++;
+        }
+
+        int best = -1;
+        int second = 0;
+        for (int i = 0; i < scores.length; i++) {
+            if (best < 0 || scores[i] > scores[best]) {
+                if (best >= 0) {
+                    second = scores[best];
+                }
+                best = i;
+            } else if (scores[i] > second) {
+                second = scores[i];
+            }
+        }
+        if (termCounts[best] < MIN_TERMS || scores[best] < MIN_SCORE || scores[best] < second * MIN_LEAD_RATIO) {
+            return Optional.empty();
+        }
+        KeywordCatalog.Entry entry = current.entries().get(best);
+        return Optional.of(new Result(entry.category(), entry.keyword(), scores[best]));
+    }
+
+    /**
+     * 키워드 목록이 바뀌었으면 사전을 다시 만듭니다
+     */
+    private Dictionary current() {
+        List<KeywordCatalog.Entry> entries = keywordCatalog.entries();
+        Dictionary current = dictionary;
+        if (current == null || current.entries() != entries) {
+            current = build(entries);
+            dictionary = current;
+        }
+        return current;
+    }
+
+    private Dictionary build(List<KeywordCatalog.Entry> entries) {
+        AhoCorasick.Builder<Term> builder = AhoCorasick.builder();
+        for (int i = 0; i < entries.size(); i++) {
+            String name = entries.get(i).keyword();
+            String normalizedName = SearchTextNormalizer.normalize(name);
+            builder.add(normalizedName, new Term(i, NAME_WEIGHT, normalizedName));
+            for (String synonym : SYNONYMS.getOrDefault(name, List.of())) {
+                String normalizedSynonym = SearchTextNormalizer.normalize(synonym);
+                builder.add(normalizedSynonym, new Term(i, SYNONYM_WEIGHT, normalizedSynonym));
+            }
+        }
+        // 설명 단어는 한 키워드에만 나오는 것만 사용 (여러 키워드에 걸치면 구분력이 없음)
+        Map<String, Set<Integer>> stems = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (String stem : descriptionStems(entries.get(i).description())) {
+                stems.computeIfAbsent(stem, k -> new HashSet<>()).add(i);
+            }
+        }
+        stems.forEach((stem, owners) -> {
+            if (owners.size() == 1) {
+                builder.add(stem, new Term(owners.iterator().next(), DESCRIPTION_WEIGHT, stem));
+            }
+        });
+
+        Dictionary built = new Dictionary(builder.build(), entries);
+        log.info("Keyword pre-classifier built: {} keywords, {} patterns",
+                entries.size(), built.automaton().patternCount());
+        return built;
+    }
+
+    /**
+     * 일치한 표현 [start, end) 의 바로 앞뒤에 부정 표현이 붙어 있는지
+     */
+    private static boolean isNegated(String text, int start, int end) {
+        if (start > 0 && NEGATION_PREFIXES.contains(text.charAt(start - 1))) {
+            return true;
+        }
+        String following = text.substring(end, Math.min(text.length(), end + NEGATION_WINDOW));
+        for (String suffix : NEGATION_SUFFIXES) {
+            if (following.contains(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 설명을 단어로 나눠 앞 두 글자를 어간으로 씁니다 ("포기하지" → 포기, "꾸준히" → 꾸준)
+     */
+    private static Set<String> descriptionStems(String description) {
+        Set<String> stems = new HashSet<>();
+        if (description == null) {
+            return stems;
+        }
+        for (String word : description.split("\\s+")) {
+            String normalized = SearchTextNormalizer.normalize(word);
+            if (normalized.length() < DESCRIPTION_STEM_LENGTH) {
+                continue;
+            }
+            String stem = normalized.substring(0, DESCRIPTION_STEM_LENGTH);
+            if (!DESCRIPTION_STOPWORDS.contains(stem)) {
+                stems.add(stem);
+            }
+        }
+        return stems;
+    }
+
+    /**
+     * 사전 분류 결과
+     * @param category 장점 카테고리 (코인 이름)
+     * @param keyword 키워드 이름
+     * @param score 일치 점수
+     */
+    public record Result(String category, String keyword, int score) {
+    }
+
+    /**
+     * @param pattern 정규화된 표현 (같은 키워드의 서로 다른 표현을 따로 세기 위함)
+     */
+    private record Term(int candidate, int weight, String pattern) {
+    }
+
+    /**
+     * @param entries 사전을 만든 키워드 목록 (KeywordCatalog 의 목록이 바뀌었는지 참조로 비교)
+     */
+    private record Dictionary(AhoCorasick<Term> automaton, List<KeywordCatalog.Entry> entries) {
+    }
+}
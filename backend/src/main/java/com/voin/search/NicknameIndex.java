@@ -0,0 +1,206 @@
+package com.voin.search;
+
+import com.voin.entity.Member;
+import com.voin.repository.MemberRepository;
+import com.voin.util.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 메모리 기반 닉네임 검색 인덱스
+ *
+ * 닉네임을 초성 형태("김철수" → ㄱㅊㅅ)로 바꾼 문자열의 unigram/bigram 으로 역색인을 만듭니다.
+ * 초성 형태는 일반 검색어와 초성 검색어 모두의 상위 집합이므로 하나의 색인으로 후보를 좁힌 뒤,
+ * 글자 단위로 다시 확인합니다. (검색어 글자가 초성 자모면 닉네임 글자의 초성과 비교)
+ *
+ * - "철수" → 김철수 (부분 일치)
+ * - "ㄱㅊ" → 김철수 (초성 일치)
+ * - "김ㅊ" → 김철수 (음절 + 초성 혼합)
+ *
+ * 랭킹: 완전 일치 > 접두 일치 > 부분 일치, 그다음 짧은 닉네임, 닉네임 사전순
+ * 애플리케이션 시작 시 한 번 구축하고, 가입/닉네임 변경/탈퇴 시 해당 회원만 갱신합니다. (트랜잭션 안이면 커밋 이후에 반영)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NicknameIndex {
+
+    private final MemberRepository memberRepository;
+
+    private final Map<UUID, String> nicknames = new HashMap<>();
+    private final Map<String, Set<UUID>> postings = new HashMap<>();
+    // put/delete 는 쓰기 락(AfterCommit.run), candidates 는 읽기 락 안에서만 호출
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> rows = memberRepository.findAllNicknames();
+        lock.writeLock().lock();
+        try {
+            nicknames.clear();
+            postings.clear();
+            for (Object[] row : rows) {
+                put((UUID) row[0], (String) row[1]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Nickname index built: {} members, {} grams", nicknames.size(), postings.size());
+    }
+
+    /**
+     * 회원 닉네임을 색인합니다 (가입, 닉네임 변경)
+     */
+    public void index(Member member) {
+        if (member == null || member.getId() == null) {
+            return;
+        }
+        UUID memberId = member.getId();
+        String nickname = member.getNickname();
+        AfterCommit.run(lock, () -> {
+            delete(memberId);
+            put(memberId, nickname);
+        });
+    }
+
+    /**
+     * 회원을 색인에서 제거합니다 (탈퇴)
+     */
+    public void remove(UUID memberId) {
+        AfterCommit.run(lock, () -> delete(memberId));
+    }
+
+    /**
+     * 닉네임을 검색합니다
+     * @param query 검색어 (일반 글자, 초성, 혼합 모두 가능)
+     * @param limit 최대 결과 수
+     * @return 관련도 순 회원 ID 목록
+     */
+    public List<UUID> search(String query, int limit) {
+        String normalizedQuery = SearchTextNormalizer.normalize(query);
+        if (normalizedQuery.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Set<String> queryGrams = SearchTextNormalizer.queryGrams(SearchTextNormalizer.choseong(normalizedQuery));
+
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (UUID memberId : candidates(queryGrams)) {
+                String nickname = nicknames.get(memberId);
+                int position = indexOf(nickname, normalizedQuery);
+                if (position >= 0) {
+                    matches.add(new Match(memberId, nickname, rank(nickname, normalizedQuery, position)));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return matches.stream()
+                .sorted(Comparator.comparingInt(Match::rank)
+                        .thenComparingInt(match -> match.nickname().length())
+                        .thenComparing(Match::nickname))
+                .limit(limit)
+                .map(Match::memberId)
+                .toList();
+    }
+
+    /**
+     * 검색어 n-gram 을 모두 포함하는 회원 (가장 짧은 posting 부터 교집합)
+     */
+    private Set<UUID> candidates(Set<String> queryGrams) {
+        List<Set<UUID>> lists = new ArrayList<>();
+        for (String gram : queryGrams) {
+            Set<UUID> ids = postings.get(gram);
+            if (ids == null) {
+                return Set.of();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<UUID> result = new HashSet<>(lists.get(0));
+        for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+            result.retainAll(lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 정규화된 닉네임에서 검색어가 처음 일치하는 위치 (없으면 -1)
+     */
+    private int indexOf(String nickname, String query) {
+        for (int start = 0; start + query.length() <= nickname.length(); start++) {
+            if (matchesAt(nickname, query, start)) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    private boolean matchesAt(String nickname, String query, int start) {
+        for (int i = 0; i < query.length(); i++) {
+            char q = query.charAt(i);
+            char n = nickname.charAt(start + i);
+            if (q == n) {
+                continue;
+            }
+            if (!SearchTextNormalizer.isChoseong(q) || SearchTextNormalizer.choseong(n) != q) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int rank(String nickname, String query, int position) {
+        if (position == 0 && nickname.length() == query.length()) {
+            return 0;
+        }
+        return position == 0 ? 1 : 2;
+    }
+
+    private void put(UUID memberId, String nickname) {
+        String normalized = SearchTextNormalizer.normalize(nickname);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        nicknames.put(memberId, normalized);
+        for (String gram : SearchTextNormalizer.grams(SearchTextNormalizer.choseong(normalized))) {
+            postings.computeIfAbsent(gram, k -> new HashSet<>()).add(memberId);
+        }
+    }
+
+    private void delete(UUID memberId) {
+        String normalized = nicknames.remove(memberId);
+        if (normalized == null) {
+            return;
+        }
+        for (String gram : SearchTextNormalizer.grams(SearchTextNormalizer.choseong(normalized))) {
+            Set<UUID> ids = postings.get(gram);
+            if (ids != null) {
+                ids.remove(memberId);
+                if (ids.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        }
+    }
+
+    private record Match(UUID memberId, String nickname, int rank) {
+    }
+}
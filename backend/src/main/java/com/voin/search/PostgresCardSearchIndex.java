@@ -0,0 +1,71 @@
+package com.voin.search;
+
+import com.voin.entity.Card;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * PostgreSQL pg_trgm 기반 카드 검색 인덱스
+ *
+ * cards.content 에 걸린 GIN(gin_trgm_ops) 인덱스를 사용합니다.
+ * (database_schema.sql 의 idx_cards_content_trgm 참고)
+ * 인덱스는 INSERT/UPDATE/DELETE 시 DB 가 직접 갱신하므로 index/remove 는 할 일이 없습니다.
+ *
+ * trigram 인덱스는 3글자 미만 검색어("용기", "꿈")를 거를 수 없으므로,
+ * 짧은 검색어는 내용의 unigram/bigram 배열에 걸린 GIN 인덱스로 찾습니다.
+ * (idx_cards_content_grams, 1~2글자 검색어는 그 자체가 하나의 gram 이라 포함 여부만 보면 됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "voin.search.engine", havingValue = "postgres")
+public class PostgresCardSearchIndex implements CardSearchIndex {
+
+    private static final String SEARCH_SQL =
+            "SELECT id FROM cards " +
+            "WHERE is_public = true AND content ILIKE ? ESCAPE '\\' " +
+            "ORDER BY similarity(content, ?) DESC, created_at DESC, id DESC " +
+            "LIMIT ?";
+
+    private static final int MIN_TRIGRAM_QUERY_LENGTH = 3;
+
+    private static final String SHORT_QUERY_SQL =
+            "SELECT id FROM cards " +
+            "WHERE is_public = true AND card_content_grams(content) @> ARRAY[lower(?)] " +
+            "ORDER BY created_at DESC, id DESC " +
+            "LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void index(Card card) {
+        // GIN 인덱스는 DB 가 갱신합니다
+    }
+
+    @Override
+    public void remove(Long cardId) {
+        // GIN 인덱스는 DB 가 갱신합니다
+    }
+
+    @Override
+    public List<Long> search(String query, int limit) {
+        if (query == null || query.isBlank() || limit <= 0) {
+            return List.of();
+        }
+        String trimmed = query.trim();
+        if (trimmed.codePointCount(0, trimmed.length()) < MIN_TRIGRAM_QUERY_LENGTH) {
+            return jdbcTemplate.queryForList(SHORT_QUERY_SQL, Long.class, trimmed, limit);
+        }
+        String pattern = "%" + escapeLike(trimmed) + "%";
+        return jdbcTemplate.queryForList(SEARCH_SQL, Long.class, pattern, trimmed, limit);
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
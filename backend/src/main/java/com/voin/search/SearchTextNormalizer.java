@@ -0,0 +1,106 @@
+package com.voin.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 텍스트 정규화 및 문자 n-gram 분해
+ *
+ * 한국어는 띄어쓰기가 일정하지 않으므로 형태소 대신 공백/문장부호를 제거한 뒤
+ * 문자 단위 unigram + bigram 으로 분해합니다. ("배려심" → 배, 려, 심, 배려, 려심)
+ * 닉네임 초성 검색을 위해 한글 음절을 초성 자모로 바꾸는 기능도 제공합니다. ("배려심" → ㅂㄹㅅ)
+ */
+final class SearchTextNormalizer {
+
+    private static final char HANGUL_BASE = '\uAC00';
+    private static final char HANGUL_LAST = '\uD7A3';
+    private static final int SYLLABLES_PER_CHOSEONG = 21 * 28;
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private SearchTextNormalizer() {
+    }
+
+    /**
+     * NFC 정규화 + 소문자 변환 + 글자/숫자 외 문자 제거
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 정규화된 텍스트를 unigram + bigram 집합으로 분해합니다
+     */
+    static Set<String> grams(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 1));
+            if (i + 1 < normalized.length()) {
+                grams.add(normalized.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    /**
+     * 검색어용 n-gram 집합 (한 글자 검색은 unigram, 그 외에는 bigram 만 사용)
+     */
+    static Set<String> queryGrams(String normalized) {
+        if (normalized.length() == 1) {
+            return Set.of(normalized);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 한글 음절은 초성 자모로 바꾸고 나머지 글자는 그대로 둡니다 ("김철수a" → ㄱㅊㅅa)
+     */
+    static String choseong(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            sb.append(choseong(normalized.charAt(i)));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 한 글자의 초성 (한글 음절이 아니면 그대로 반환)
+     */
+    static char choseong(char c) {
+        if (c < HANGUL_BASE || c > HANGUL_LAST) {
+            return c;
+        }
+        return CHOSEONG[(c - HANGUL_BASE) / SYLLABLES_PER_CHOSEONG];
+    }
+
+    /**
+     * 초성 자모(ㄱ~ㅎ)인지 확인합니다
+     */
+    static boolean isChoseong(char c) {
+        for (char jamo : CHOSEONG) {
+            if (jamo == c) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,100 @@
+package com.voin.security;
+
+import com.voin.entity.Member;
+import com.voin.service.MemberCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.HttpSession;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 현재 로그인한 회원을 찾아 주는 공용 컴포넌트
+ *
+ * 1. JWT 인증 정보(SecurityContext)의 principal 이름을 회원 ID 로 사용하고,
+ *    없으면 세션의 memberId 속성을 사용합니다.
+ * 2. 회원 엔티티는 MemberCache 를 거쳐 조회하고, 같은 요청 안에서는 요청 속성에 보관하여
+ *    서비스 여러 곳에서 호출해도 최대 한 번만 조회합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CurrentMemberResolver {
+
+    private static final String REQUEST_ATTRIBUTE = CurrentMemberResolver.class.getName() + ".member";
+
+    private final MemberCache memberCache;
+
+    /**
+     * 현재 로그인한 회원 ID
+     */
+    public UUID currentMemberId() {
+        return findCurrentMemberId()
+                .orElseThrow(() -> new RuntimeException("로그인이 필요합니다."));
+    }
+
+    /**
+     * 현재 로그인한 회원 ID (로그인하지 않았으면 빈 값, 공개 API 에서 사용)
+     */
+    public Optional<UUID> findCurrentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            try {
+                return Optional.of(UUID.fromString(authentication.getName()));
+            } catch (IllegalArgumentException ignored) {
+                // principal 이 회원 ID 형식이 아니면 세션 확인
+            }
+        }
+
+        return Optional.ofNullable(sessionMemberId());
+    }
+
+    /**
+     * 현재 로그인한 회원 (요청당 최대 한 번 조회)
+     * 반환된 엔티티는 영속성 컨텍스트에서 분리되어 있을 수 있으므로 수정 용도로 쓰지 않습니다.
+     */
+    public Member currentMember() {
+        UUID memberId = currentMemberId();
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null
+                && attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof Member cached
+                && cached.getId().equals(memberId)) {
+            return cached;
+        }
+
+        Member member = memberCache.get(memberId);
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, member, RequestAttributes.SCOPE_REQUEST);
+        }
+        return member;
+    }
+
+    private UUID sessionMemberId() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return null;
+        }
+        HttpSession session = attributes.getRequest().getSession(false);
+        if (session == null) {
+            return null;
+        }
+        Object memberId = session.getAttribute("memberId");
+        if (memberId instanceof UUID uuid) {
+            return uuid;
+        }
+        if (memberId instanceof String value) {
+            try {
+                return UUID.fromString(value);
+            } catch (IllegalArgumentException ignored) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
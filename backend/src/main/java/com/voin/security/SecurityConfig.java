@@ -5,6 +5,7 @@ import com.voin.security.JwtAccessDeniedHandler;
 import com.voin.security.JwtAuthenticationFilter;
 import com.voin.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,6 +19,8 @@ import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.util.Set;
+
 @Configuration
 @EnableWebSecurity
 @RequiredArgsConstructor
@@ -28,7 +31,8 @@ public class SecurityConfig {
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${voin.admin.member-ids:}") Set<String> adminMemberIds) throws Exception {
         http
                 .csrf(csrf -> csrf.disable())
                 .headers(h -> h.frameOptions().disable())
@@ -45,8 +49,17 @@ public class SecurityConfig {
                                 "/api/auth/kakao/verify", "/api/auth/kakao/url", "/api/auth/validate").permitAll()
                         // 3) 로그인 전 공용 데이터(키워드 등)
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/master/**").permitAll()
+                        // 저장된 프로필 이미지 (<img> 요청에는 토큰이 없음, 파일명은 추측 불가한 해시/UUID)
+                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/images/**").permitAll()
+                        .requestMatchers(org.springframework.http.HttpMethod.HEAD, "/images/**").permitAll()
+                        // 일괄 분류는 회원별 한도로만 제한할 수 있으므로 로그인 필요
+                        .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/gpt/classify/batch").authenticated()
                         // gpt 일단 임시로 열어놓음
                         .requestMatchers(org.springframework.http.HttpMethod.POST, "/api/gpt/**").permitAll()
+                        // EventSource 는 GET 만 지원
+                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/gpt/summarize/stream").permitAll()
+                        // GPT 호출/외부 HTTP 지표는 운영자만 (voin.admin.member-ids)
+                        .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/gpt/metrics", "/api/gpt/metrics/**").hasRole("ADMIN")
                         // 4) 웹소켓 핸드셰이크
                         .requestMatchers("/ws/**", "/ws").permitAll()
                         // 5) 그 외 API는 인증 필요
@@ -58,7 +71,7 @@ public class SecurityConfig {
                         .authenticationEntryPoint(jwtAuthenticationEntryPoint)
                         .accessDeniedHandler(jwtAccessDeniedHandler)
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, adminMemberIds),
                         org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -73,7 +86,7 @@ public class SecurityConfig {
     CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration config = new CorsConfiguration();
         config.setAllowedOrigins(java.util.List.of("https://localhost:5174"));
-        config.setAllowedMethods(java.util.List.of("GET","POST","PUT","DELETE","OPTIONS"));
+        config.setAllowedMethods(java.util.List.of("GET","HEAD","POST","PUT","DELETE","OPTIONS"));
         config.setAllowedHeaders(java.util.List.of("Authorization","Content-Type"));
         config.setAllowCredentials(true);
 
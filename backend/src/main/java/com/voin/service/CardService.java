@@ -12,19 +12,21 @@ import com.voin.repository.StoryRepository;
 import com.voin.repository.CoinRepository;
 import com.voin.repository.KeywordRepository;
 import com.voin.repository.MemberRepository;
+import com.voin.security.CurrentMemberResolver;
+import com.voin.search.CardSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
-import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
 import com.voin.dto.request.CardCreateRequest;
 import com.voin.dto.response.CardResponse;
+import com.voin.dto.response.CursorPageResponse;
+import com.voin.dto.response.MyCardResponse;
+import com.voin.util.CardCursor;
 
 import java.util.List;
 import java.util.Map;
@@ -60,6 +62,14 @@ public class CardService {
     private final CoinRepository coinRepository;
     private final KeywordRepository keywordRepository;
     private final MemberRepository memberRepository;
+    private final CardSearchIndex cardSearchIndex;
+    private final TimelineService timelineService;
+    private final MemberStatsService memberStatsService;
+    private final CurrentMemberResolver currentMemberResolver;
+    private final ClassificationJobService classificationJobService;
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_RESULTS = 100;
 
     public Card findById(Long cardId) {
         return cardRepository.findById(cardId)
@@ -87,9 +97,30 @@ public class CardService {
         throw new UnsupportedOperationException("이 메서드는 더 이상 사용되지 않습니다.");
     }
 
-    @Transactional(readOnly = true)
-    public Page<Card> searchByContent(String keyword, Pageable pageable) {
-        return cardRepository.searchByContentAndIsPublicTrue(keyword, pageable);
+    /**
+     * 🔍 공개 카드 내용 검색
+     *
+     * 검색 인덱스(CardSearchIndex)에서 관련도 순으로 카드 ID를 찾은 뒤,
+     * 해당 카드들만 한 번에 조회하여 같은 순서로 반환합니다.
+     *
+     * @param query 검색어
+     * @param limit 최대 결과 수 (1~100)
+     */
+    public List<CardResponse> searchPublicCards(String query, int limit) {
+        List<Long> ids = cardSearchIndex.search(query, Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS)));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Card> cardsById = cardRepository.findAllWithDetailsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Card::getId, card -> card));
+
+        // 인덱스와 DB 사이에 잠시 차이가 있을 수 있으므로 공개 여부를 다시 확인
+        return ids.stream()
+                .map(cardsById::get)
+                .filter(card -> card != null && card.isPublic())
+                .map(card -> convertToCardResponse(card, new ArrayList<>()))
+                .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
@@ -109,70 +140,15 @@ public class CardService {
      * 
      * 현재 로그인한 사용자가 소유한 모든 카드를 Story 정보와 함께 반환합니다.
      * 경험 돌아보기로 만든 카드의 경우 answer1, answer2 정보도 포함됩니다.
+     * 키워드, 코인, 스토리는 한 번의 fetch join 쿼리로 함께 조회합니다.
      * 
      * @return 카드와 Story 정보가 포함된 데이터 목록
      */
-    public List<Map<String, Object>> getMyCardsWithStoryData() {
+    public List<MyCardResponse> getMyCardsWithStoryData() {
         Member currentMember = getCurrentMember();
-        List<Card> cards = cardRepository.findByOwnerOrderByCreatedAtDesc(currentMember);
-        
-        return cards.stream().map(card -> {
-            Map<String, Object> cardData = new HashMap<>();
-            
-            // 기본 카드 정보
-            cardData.put("id", card.getId());
-            cardData.put("content", card.getContent());
-            cardData.put("createdAt", card.getCreatedAt());
-            cardData.put("isPublic", card.getIsPublic());
-            cardData.put("isGift", card.getIsGift());
-            cardData.put("situationContext", card.getSituationContext());
-            
-            // 키워드 정보
-            if (card.getKeyword() != null) {
-                Map<String, Object> keywordData = new HashMap<>();
-                keywordData.put("id", card.getKeyword().getId());
-                keywordData.put("name", card.getKeyword().getName());
-                keywordData.put("description", card.getKeyword().getDescription());
-                
-                // 코인 정보
-                if (card.getKeyword().getCoin() != null) {
-                    Map<String, Object> coinData = new HashMap<>();
-                    coinData.put("id", card.getKeyword().getCoin().getId());
-                    coinData.put("name", card.getKeyword().getCoin().getName());
-                    coinData.put("description", card.getKeyword().getCoin().getDescription());
-                    coinData.put("color", card.getKeyword().getCoin().getColor());
-                    keywordData.put("coin", coinData);
-                }
-                
-                cardData.put("keyword", keywordData);
-            }
-            
-            // Story 정보 (경험 돌아보기의 answer1, answer2 포함)
-            if (card.getStory() != null) {
-                Map<String, Object> storyData = new HashMap<>();
-                storyData.put("id", card.getStory().getId());
-                storyData.put("title", card.getStory().getTitle());
-                storyData.put("content", card.getStory().getContent());
-                storyData.put("type", card.getStory().getStoryType().name());
-                
-                // 경험 돌아보기인 경우 추가 정보 포함
-                if (card.getStory().getStoryType() == StoryType.EXPERIENCE_REFLECTION) {
-                    if (card.getStory().getAnswer1() != null) {
-                        storyData.put("answer1", card.getStory().getAnswer1());
-                    }
-                    if (card.getStory().getAnswer2() != null) {
-                        storyData.put("answer2", card.getStory().getAnswer2());
-                    }
-                    if (card.getStory().getSituationContext() != null) {
-                        storyData.put("situationContext", card.getStory().getSituationContext());
-                    }
-                }
-                
-                cardData.put("story", storyData);
-            }
-            
-            return cardData;
-        }).collect(Collectors.toList());
+        return cardRepository.findArchiveByOwner(currentMember).stream()
+                .map(MyCardResponse::from)
+                .collect(Collectors.toList());
     }
 
     @Transactional
@@ -214,6 +190,8 @@ public class CardService {
                 .build();
         
         Card savedCard = cardRepository.save(card);
+        cardSearchIndex.index(savedCard);
+        memberStatsService.cardsCreated(currentMember.getId(), 1, 0);
         log.info("Card created: id={}, keyword={}", savedCard.getId(), keyword.getName());
         return savedCard;
     }
@@ -235,13 +213,22 @@ public class CardService {
                 .situationContext(existingCard.getSituationContext())
                 .build();
         
-        return cardRepository.save(updatedEntity);
+        boolean wasPublic = existingCard.isPublic();
+        Card savedCard = cardRepository.save(updatedEntity);
+        cardSearchIndex.index(savedCard);
+        syncTimeline(savedCard, wasPublic);
+        return savedCard;
     }
 
     @Transactional
     public void deleteCard(Long cardId) {
         Card card = findById(cardId);
+        UUID ownerId = card.getOwner().getId();
+        boolean wasPublic = card.isPublic();
         cardRepository.delete(card);
+        cardSearchIndex.remove(cardId);
+        timelineService.retract(cardId);
+        memberStatsService.cardDeleted(ownerId, wasPublic);
         log.info("Deleted card: {}", cardId);
     }
 
@@ -263,6 +250,7 @@ public class CardService {
         );
         
         Story savedStory = storyRepository.save(story);
+        classificationJobService.enqueue(savedStory);
         
         log.info("Saved diary story: {} for member: {} with content: {}", 
                 savedStory.getId(), currentMember.getId(), 
@@ -299,6 +287,10 @@ public class CardService {
             }
         }
         
+        // 현재 내용으로 분류가 끝났으면 결과 포함 (아직이면 WebSocket 알림으로 전달됨)
+        classificationJobService.storedResult(story)
+                .ifPresent(classification -> storyData.put("classification", classification));
+        
         log.info("Retrieved story data for ID: {}, type: {}", storyId, story.getStoryType());
         return storyData;
     }
@@ -347,6 +339,7 @@ public class CardService {
         );
         
         Story savedStory = storyRepository.save(story);
+        classificationJobService.enqueue(savedStory);
         
         log.info("Saved experience step1 story: {} for member: {} with context: {}", 
                 savedStory.getId(), currentMember.getId(), situationContext.getTitle());
@@ -368,6 +361,8 @@ public class CardService {
         story.updateAnswer2(thoughtDescription);
         
         storyRepository.save(story);
+        // 두 번째 답변까지 포함해 다시 분류
+        classificationJobService.enqueue(story);
         
         log.info("Updated experience step2 for story: {} with thought response", storyId);
     }
@@ -386,6 +381,7 @@ public class CardService {
                 .build();
         
         Story savedStory = storyRepository.save(story);
+        classificationJobService.enqueue(savedStory);
         
         log.info("Saved friend step1 story: {} for member: {}", savedStory.getId(), currentMember.getId());
         return savedStory.getId();
@@ -400,6 +396,7 @@ public class CardService {
         story.updateAnswer2(friendThoughtDescription);
         
         storyRepository.save(story);
+        classificationJobService.enqueue(story);
         
         log.info("Updated friend step2 for story: {}", storyId);
     }
@@ -443,6 +440,7 @@ public class CardService {
     /**
      * 스토리로부터 카드 생성
      */
+    @Transactional
     public CardResponse createCardFromStory(CardCreateRequest request) {
         UUID currentMemberId = getCurrentMemberId();
         
@@ -455,14 +453,22 @@ public class CardService {
         }
         
         // 대상 회원 조회 (본인)
-        Member targetMember = memberRepository.findById(currentMemberId)
-                .orElseThrow(() -> new RuntimeException("회원을 찾을 수 없습니다."));
+        Member targetMember = getCurrentMember();
         
-        // 키워드 조회
+        // 저장된 분류 결과가 현재 내용 기준이면 재사용 (GPT 재호출 없음)
+        Map<String, String> classification = classificationJobService.storedResult(story).orElse(null);
+        
+        // 키워드 조회 (지정하지 않았으면 분류된 키워드 사용)
         Keyword keyword = null;
         if (request.getKeywordId() != null) {
             keyword = keywordRepository.findById(request.getKeywordId())
                     .orElseThrow(() -> new RuntimeException("키워드를 찾을 수 없습니다."));
+        } else if (classification != null) {
+            keyword = keywordRepository.findByCoinNameAndName(classification.get("category"), classification.get("keyword"))
+                    .orElse(null);
+        }
+        if (keyword == null) {
+            throw new IllegalArgumentException("키워드를 선택하거나 스토리 분류가 끝난 뒤 다시 시도해주세요.");
         }
         
         // 카드 생성
@@ -472,13 +478,95 @@ public class CardService {
                 .targetMember(targetMember)
                 .story(story)
                 .keyword(keyword)
+                .content(summaryOf(classification))
                 .isPublic(request.getIsPublic() != null ? request.getIsPublic() : true)
                 .build();
         
         Card savedCard = cardRepository.save(card);
+        cardSearchIndex.index(savedCard);
+        timelineService.publish(savedCard);
+        memberStatsService.cardsCreated(currentMemberId, 1, savedCard.isPublic() ? 1 : 0);
         log.info("Card created from story: cardId={}, storyId={}", savedCard.getId(), story.getId());
         
-        return convertToCardResponse(savedCard, keyword != null ? List.of(keyword) : new ArrayList<>());
+        return convertToCardResponse(savedCard, List.of(keyword));
+    }
+
+    /**
+     * 스토리 기반 카드 일괄 생성
+     * 스토리와 키워드는 각각 IN 쿼리 한 번으로 검증하고, 카드는 saveAll 로 배치 INSERT 합니다.
+     */
+    @Transactional
+    public List<CardResponse> createCardsFromStories(List<CardCreateRequest> requests) {
+        UUID currentMemberId = getCurrentMemberId();
+
+        Member targetMember = getCurrentMember();
+
+        // 스토리 일괄 조회 및 소유자 확인
+        List<Long> storyIds = requests.stream().map(CardCreateRequest::getStoryId).distinct().toList();
+        Map<Long, Story> storiesById = storyRepository.findAllById(storyIds).stream()
+                .collect(Collectors.toMap(Story::getId, story -> story));
+        for (Long storyId : storyIds) {
+            Story story = storiesById.get(storyId);
+            if (story == null) {
+                throw new RuntimeException("스토리를 찾을 수 없습니다. storyId=" + storyId);
+            }
+            if (!story.getMemberId().equals(currentMemberId)) {
+                throw new RuntimeException("해당 스토리에 대한 권한이 없습니다. storyId=" + storyId);
+            }
+        }
+
+        // 키워드 일괄 조회 (일괄 생성은 분류 결과로 대신하지 않으므로 키워드 필수)
+        for (CardCreateRequest request : requests) {
+            if (request.getKeywordId() == null) {
+                throw new IllegalArgumentException("키워드 ID는 필수입니다. storyId=" + request.getStoryId());
+            }
+        }
+        List<Long> keywordIds = requests.stream().map(CardCreateRequest::getKeywordId).distinct().toList();
+        Map<Long, Keyword> keywordsById = keywordRepository.findAllWithCoinByIdIn(keywordIds).stream()
+                .collect(Collectors.toMap(Keyword::getId, keyword -> keyword));
+        for (Long keywordId : keywordIds) {
+            if (!keywordsById.containsKey(keywordId)) {
+                throw new RuntimeException("키워드를 찾을 수 없습니다. keywordId=" + keywordId);
+            }
+        }
+        for (CardCreateRequest request : requests) {
+            if (!keywordsById.get(request.getKeywordId()).getCoin().getId().equals(request.getCoinId())) {
+                throw new IllegalArgumentException("선택된 키워드가 해당 코인에 속해있지 않습니다. keywordId="
+                        + request.getKeywordId());
+            }
+        }
+
+        // 스토리별 저장된 분류 요약 (현재 내용 기준인 것만)
+        Map<Long, String> summariesByStory = new HashMap<>();
+        storiesById.forEach((storyId, story) -> {
+            String summary = summaryOf(classificationJobService.storedResult(story).orElse(null));
+            if (summary != null) {
+                summariesByStory.put(storyId, summary);
+            }
+        });
+
+        List<Card> cards = requests.stream()
+                .map(request -> Card.builder()
+                        .creator(targetMember)
+                        .owner(targetMember)
+                        .targetMember(targetMember)
+                        .story(storiesById.get(request.getStoryId()))
+                        .keyword(keywordsById.get(request.getKeywordId()))
+                        .content(summariesByStory.get(request.getStoryId()))
+                        .isPublic(request.getIsPublic() != null ? request.getIsPublic() : true)
+                        .build())
+                .toList();
+
+        List<Card> savedCards = cardRepository.saveAll(cards);
+        savedCards.forEach(cardSearchIndex::index);
+        timelineService.publishAll(savedCards);
+        memberStatsService.cardsCreated(currentMemberId, savedCards.size(),
+                (int) savedCards.stream().filter(Card::isPublic).count());
+        log.info("Cards created from stories: count={}, memberId={}", savedCards.size(), currentMemberId);
+
+        return savedCards.stream()
+                .map(card -> convertToCardResponse(card, List.of(card.getKeyword())))
+                .toList();
     }
 
     /**
@@ -506,9 +594,50 @@ public class CardService {
         return cards.map(card -> convertToCardResponse(card, new ArrayList<>()));
     }
 
+    /**
+     * 공개 카드 목록 조회 (커서 기반)
+     *
+     * OFFSET/COUNT 없이 (createdAt, id) 커서 이후의 카드만 조회하므로
+     * 스크롤이 깊어져도 조회 비용이 일정합니다.
+     *
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1~100)
+     */
+    public CursorPageResponse<CardResponse> getPublicCardsByCursor(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        CardCursor decoded = CardCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Card> cards = decoded == null
+                ? cardRepository.findPublicFeed(limit)
+                : cardRepository.findPublicFeedAfter(decoded.createdAt(), decoded.id(), limit);
+
+        boolean hasNext = cards.size() > pageSize;
+        if (hasNext) {
+            cards = cards.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Card last = cards.get(cards.size() - 1);
+            nextCursor = new CardCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponse.<CardResponse>builder()
+                .content(cards.stream()
+                        .map(card -> convertToCardResponse(card, new ArrayList<>()))
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
+    }
+
     /**
      * 카드 공개/비공개 설정 변경
      */
+    @Transactional
     public CardResponse updateCardVisibility(Long cardId, Boolean isPublic) {
         UUID currentMemberId = getCurrentMemberId();
         
@@ -520,12 +649,15 @@ public class CardService {
             throw new RuntimeException("해당 카드에 대한 권한이 없습니다.");
         }
         
+        boolean wasPublic = card.isPublic();
         if (Boolean.TRUE.equals(isPublic)) {
             card.makePublic();
         } else {
             card.makePrivate();
         }
         Card updatedCard = cardRepository.save(card);
+        cardSearchIndex.index(updatedCard);
+        syncTimeline(updatedCard, wasPublic);
         
         log.info("Card visibility updated: cardId={}, isPublic={}", cardId, isPublic);
         return convertToCardResponse(updatedCard, new ArrayList<>());
@@ -537,25 +669,7 @@ public class CardService {
      * 현재 로그인한 사용자 ID 가져오기
      */
     private UUID getCurrentMemberId() {
-        // SecurityContextHolder를 사용하는 것이 좋지만, 기존 세션 방식도 지원
-        try {
-            String memberId = org.springframework.security.core.context.SecurityContextHolder
-                    .getContext().getAuthentication().getName();
-            return UUID.fromString(memberId);
-        } catch (Exception e) {
-            // 세션 방식 fallback
-            ServletRequestAttributes attr = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
-            HttpServletRequest request = attr.getRequest();
-            HttpSession session = request.getSession(false);
-            
-            if (session != null) {
-                Object memberIdObj = session.getAttribute("memberId");
-                if (memberIdObj instanceof UUID) {
-                    return (UUID) memberIdObj;
-                }
-            }
-            throw new RuntimeException("로그인이 필요합니다.");
-        }
+        return currentMemberResolver.currentMemberId();
     }
 
     /**
@@ -587,30 +701,35 @@ public class CardService {
     }
 
     /**
-     * 현재 로그인한 회원을 조회합니다.
-     * 
-     * TODO: 실제 인증 시스템이 구현되면 JWT 토큰이나 세션에서 회원 정보를 가져오도록 수정해야 합니다.
-     * 현재는 테스트를 위해 세션에서 memberId를 조회하거나, 없으면 첫 번째 회원을 반환합니다.
+     * 저장된 분류 결과의 요약 (없거나 비어 있으면 null)
      */
-    private Member getCurrentMember() {
-        try {
-            ServletRequestAttributes attr = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
-            HttpServletRequest request = attr.getRequest();
-            HttpSession session = request.getSession(false);
-            
-            if (session != null && session.getAttribute("memberId") != null) {
-                String memberIdStr = (String) session.getAttribute("memberId");
-                UUID memberId = UUID.fromString(memberIdStr);
-                return memberRepository.findById(memberId)
-                        .orElseThrow(() -> new ResourceNotFoundException("Member not found with id: " + memberId));
-            }
-        } catch (Exception e) {
-            log.warn("Failed to get current member from session: {}", e.getMessage());
+    private String summaryOf(Map<String, String> classification) {
+        if (classification == null) {
+            return null;
         }
-        
-        // 세션에서 찾을 수 없으면 테스트용으로 첫 번째 회원 반환
-        return memberRepository.findAll().stream()
-                .findFirst()
-                .orElseThrow(() -> new ResourceNotFoundException("No members found in database"));
+        String summary = classification.get("summary");
+        return summary == null || summary.isEmpty() ? null : summary;
+    }
+
+    /**
+     * 공개 여부가 바뀐 경우에만 친구 타임라인과 회원 통계에 반영합니다
+     */
+    private void syncTimeline(Card card, boolean wasPublic) {
+        if (wasPublic == card.isPublic()) {
+            return;
+        }
+        if (card.isPublic()) {
+            timelineService.publish(card);
+        } else {
+            timelineService.retract(card.getId());
+        }
+        memberStatsService.visibilityChanged(card.getOwner().getId(), card.isPublic());
+    }
+
+    /**
+     * 현재 로그인한 사용자 정보 가져오기 (요청당 한 번 조회, CurrentMemberResolver 참고)
+     */
+    private Member getCurrentMember() {
+        return currentMemberResolver.currentMember();
     }
 } 
\ No newline at end of file
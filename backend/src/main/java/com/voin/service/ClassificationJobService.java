@@ -0,0 +1,262 @@
+package com.voin.service;
+
+import com.voin.constant.ClassificationJobStatus;
+import com.voin.dto.response.NotificationDto;
+import com.voin.entity.ClassificationJob;
+import com.voin.entity.Story;
+import com.voin.repository.ClassificationJobRepository;
+import com.voin.repository.StoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스토리 장점 분류 작업 큐 (DB 테이블 기반)
+ *
+ * 스토리를 저장하는 트랜잭션 안에서 작업을 등록하므로 저장이 커밋되면 작업도 반드시 남습니다.
+ * 작업 가져오기/완료/실패 기록은 각각 짧은 트랜잭션으로 처리하고,
+ * GPT 호출은 트랜잭션 밖(ClassificationWorker)에서 합니다.
+ *
+ * 실패하면 지수 백오프(10초, 20초, 40초 ... 최대 10분)로 MAX_ATTEMPTS 번까지 다시 시도하고,
+ * 결과(완료/최종 실패)는 커밋 후 작성자에게 WebSocket 으로 알립니다.
+ *
+ * 결과는 본문 해시, 프롬프트 버전과 함께 스토리에 저장되며, 둘 다 같으면 다시 분류하지 않고 재사용합니다.
+ * 현재 프롬프트로 분류되지 않은 기존 스토리는 대기 작업이 적을 때만 조금씩 백필합니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class ClassificationJobService {
+
+    static final int MAX_ATTEMPTS = 5;
+    private static final Duration LEASE = Duration.ofMinutes(2);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+    private static final Duration RETENTION = Duration.ofDays(7);
+    private static final int BACKFILL_BATCH_SIZE = 50;
+
+    private final ClassificationJobRepository classificationJobRepository;
+    private final StoryRepository storyRepository;
+    private final NotificationService notificationService;
+    private final GptService gptService;
+    private final boolean backfillEnabled;
+
+    public ClassificationJobService(ClassificationJobRepository classificationJobRepository,
+                                    StoryRepository storyRepository,
+                                    NotificationService notificationService,
+                                    GptService gptService,
+                                    @Value("${voin.classification.backfill.enabled:true}") boolean backfillEnabled) {
+        this.classificationJobRepository = classificationJobRepository;
+        this.storyRepository = storyRepository;
+        this.notificationService = notificationService;
+        this.gptService = gptService;
+        this.backfillEnabled = backfillEnabled;
+    }
+
+    /**
+     * 스토리 분류 작업을 등록합니다 (스토리 저장 트랜잭션 안에서 호출)
+     * 아직 시작하지 않은 작업이 있으면 그 작업이 최신 내용으로 분류하므로 새로 만들지 않습니다.
+     */
+    @Transactional
+    public void enqueue(Story story) {
+        if (classificationJobRepository.existsByStoryIdAndStatus(story.getId(), ClassificationJobStatus.PENDING)) {
+            return;
+        }
+        classificationJobRepository.save(ClassificationJob.of(story.getId(), story.getMemberId()));
+        log.debug("Classification job enqueued for story: {}", story.getId());
+    }
+
+    /**
+     * 처리할 작업을 최대 limit 개 가져와 점유합니다
+     * 점유가 만료된 채 시도 횟수를 다 쓴 작업은 실패로 끝냅니다.
+     */
+    @Transactional
+    public List<ClaimedJob> claim(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ClaimedJob> claimed = new ArrayList<>();
+        for (ClassificationJob job : classificationJobRepository.findRunnableForUpdate(now, PageRequest.of(0, limit))) {
+            if (job.getAttempts() >= MAX_ATTEMPTS) {
+                job.fail("처리 시간이 초과되었습니다.");
+                if (job.getInteractive()) {
+                    notifyAfterCommit(job.getMemberId(), failedNotification(job.getStoryId()));
+                }
+                continue;
+            }
+            job.start(now.plus(LEASE));
+            claimed.add(new ClaimedJob(job.getId(), job.getStoryId(), job.getMemberId(),
+                    job.getAttempts(), job.getInteractive()));
+        }
+        return claimed;
+    }
+
+    /**
+     * 분류에 넘길 스토리 본문과, 같은 본문/프롬프트로 이미 저장된 결과를 조회합니다
+     * @return 스토리가 삭제되었으면 null
+     */
+    public StoryInput loadInput(Long storyId) {
+        return storyRepository.findById(storyId)
+                .map(story -> new StoryInput(story.toClassificationInput(), storedResult(story).orElse(null)))
+                .orElse(null);
+    }
+
+    /**
+     * 스토리에 저장된 분류 결과를 조회합니다
+     * 본문이나 프롬프트 버전이 바뀌어 지금 다시 분류하면 결과가 달라질 수 있으면 빈 값을 돌려줍니다.
+     */
+    public Optional<Map<String, String>> storedResult(Story story) {
+        String input = story.toClassificationInput();
+        if (!story.isClassificationCurrent(GptResultCache.contentHash(input), gptService.classifyPromptVersion())) {
+            return Optional.empty();
+        }
+        Map<String, String> result = new HashMap<>();
+        result.put("category", story.getClassifiedCategory() != null ? story.getClassifiedCategory() : "");
+        result.put("keyword", story.getClassifiedKeyword());
+        result.put("summary", story.getClassifiedSummary() != null ? story.getClassifiedSummary() : "");
+        return Optional.of(result);
+    }
+
+    /**
+     * 분류 결과를 스토리에 기록하고 작업을 완료합니다 (사용자가 기다리는 작업이면 커밋 후 알림)
+     * @param input 분류한 본문 (그 사이 본문이 바뀌었으면 다음 조회 때 해시가 달라 재사용되지 않음)
+     */
+    @Transactional
+    public void complete(ClaimedJob claimed, String input, Map<String, String> result) {
+        classificationJobRepository.findById(claimed.jobId()).ifPresent(ClassificationJob::complete);
+        Story story = storyRepository.findById(claimed.storyId()).orElse(null);
+        if (story == null) {
+            return;
+        }
+        story.applyClassification(result.get("category"), result.get("keyword"), result.get("summary"),
+                GptResultCache.contentHash(input), gptService.classifyPromptVersion());
+        if (!claimed.interactive()) {
+            return;
+        }
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("storyId", story.getId());
+        data.put("category", story.getClassifiedCategory());
+        data.put("keyword", story.getClassifiedKeyword());
+        data.put("summary", story.getClassifiedSummary());
+        notifyAfterCommit(claimed.memberId(), new NotificationDto(
+                "STORY_CLASSIFIED", "장점 분류가 완료되었습니다.", System.currentTimeMillis(), data));
+    }
+
+    /**
+     * 실패를 기록합니다 (시도 횟수가 남았으면 백오프 후 재시도, 아니면 최종 실패)
+     */
+    @Transactional
+    public void fail(ClaimedJob claimed, String error) {
+        ClassificationJob job = classificationJobRepository.findById(claimed.jobId()).orElse(null);
+        if (job == null) {
+            return;
+        }
+        if (job.getAttempts() >= MAX_ATTEMPTS) {
+            job.fail(error);
+            log.warn("Classification job {} failed after {} attempts: {}", job.getId(), job.getAttempts(), error);
+            if (job.getInteractive()) {
+                notifyAfterCommit(job.getMemberId(), failedNotification(job.getStoryId()));
+            }
+            return;
+        }
+        job.retryAt(LocalDateTime.now().plus(backoff(job.getAttempts())), error);
+    }
+
+    /**
+     * 분류할 수 없는 작업을 재시도 없이 끝냅니다 (스토리 삭제, 빈 본문)
+     */
+    @Transactional
+    public void discard(ClaimedJob claimed, String reason) {
+        classificationJobRepository.findById(claimed.jobId()).ifPresent(job -> job.fail(reason));
+    }
+
+    /**
+     * 현재 프롬프트로 분류되지 않은 기존 스토리를 백필 작업으로 등록합니다
+     * 대기 작업이 한 묶음보다 많으면 건너뛰어, 사용자가 기다리는 작업과 OpenAI 한도를 밀어내지 않습니다.
+     */
+    @Scheduled(fixedDelay = 5 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    @Transactional
+    public void enqueueBackfill() {
+        if (!backfillEnabled
+                || classificationJobRepository.countByStatus(ClassificationJobStatus.PENDING) >= BACKFILL_BATCH_SIZE) {
+            return;
+        }
+        List<Object[]> keys = storyRepository.findUnclassifiedStoryKeys(
+                gptService.classifyPromptVersion(), PageRequest.of(0, BACKFILL_BATCH_SIZE));
+        if (keys.isEmpty()) {
+            return;
+        }
+        classificationJobRepository.saveAll(keys.stream()
+                .map(row -> ClassificationJob.backfill((Long) row[0], (UUID) row[1]))
+                .toList());
+        log.info("Classification backfill: {} stories enqueued", keys.size());
+    }
+
+    /**
+     * 끝난 지 오래된 작업을 정리합니다
+     */
+    @Scheduled(fixedDelay = 60 * 60 * 1000, initialDelay = 15 * 60 * 1000)
+    @Transactional
+    public void purgeFinishedJobs() {
+        int deleted = classificationJobRepository.deleteFinishedBefore(LocalDateTime.now().minus(RETENTION));
+        if (deleted > 0) {
+            log.info("Purged {} finished classification jobs", deleted);
+        }
+    }
+
+    /**
+     * n 번째 시도 후 다음 시도까지 기다릴 시간 (지수 백오프 + 최대 20% 지터)
+     */
+    private Duration backoff(int attempts) {
+        long millis = Math.min(BASE_BACKOFF.toMillis() << Math.min(attempts - 1, 16), MAX_BACKOFF.toMillis());
+        long jitter = ThreadLocalRandom.current().nextLong(millis / 5 + 1);
+        return Duration.ofMillis(millis + jitter);
+    }
+
+    private NotificationDto failedNotification(Long storyId) {
+        return new NotificationDto("STORY_CLASSIFICATION_FAILED", "장점 분류에 실패했습니다.",
+                System.currentTimeMillis(), Map.of("storyId", storyId));
+    }
+
+    private void notifyAfterCommit(UUID memberId, NotificationDto notification) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    notificationService.sendToUser(memberId.toString(), notification);
+                } catch (RuntimeException e) {
+                    log.warn("Failed to send classification notification to {}: {}", memberId, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * 워커가 가져간 작업 정보
+     * @param attempt 이번 시도가 몇 번째인지
+     * @param interactive 사용자가 결과를 기다리는 작업인지 (백필이면 false)
+     */
+    public record ClaimedJob(Long jobId, Long storyId, UUID memberId, int attempt, boolean interactive) {
+    }
+
+    /**
+     * 분류할 스토리 본문
+     * @param stored 같은 본문/프롬프트로 이미 저장된 결과 (없으면 null)
+     */
+    public record StoryInput(String text, Map<String, String> stored) {
+    }
+}
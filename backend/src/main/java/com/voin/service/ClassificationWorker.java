@@ -0,0 +1,101 @@
+package com.voin.service;
+
+import com.voin.service.ClassificationJobService.ClaimedJob;
+import com.voin.service.ClassificationJobService.StoryInput;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 스토리 분류 작업 워커
+ *
+ * 1초마다 빈 워커 수만큼 작업을 가져와(claim) classificationExecutor 에서 처리합니다.
+ * 요청 스레드와 분리되어 있으므로 분류 처리량은 워커 수(voin.classification.workers)로 따로 조절합니다.
+ * GPT 호출 실패, 보호 정책 거절(429/503), 오류 응답은 모두 실패로 기록되어 백오프 후 재시도됩니다.
+ */
+@Slf4j
+@Component
+public class ClassificationWorker {
+
+    // GPT 응답 제한(60초)보다 조금 길게 기다림 (점유 시간 2분 안에 끝나야 함)
+    private static final Duration PROCESS_TIMEOUT = Duration.ofSeconds(90);
+
+    private final ClassificationJobService classificationJobService;
+    private final GptService gptService;
+    private final ThreadPoolTaskExecutor executor;
+    private final Semaphore slots;
+
+    public ClassificationWorker(ClassificationJobService classificationJobService,
+                                GptService gptService,
+                                @Qualifier("classificationExecutor") ThreadPoolTaskExecutor executor,
+                                @Value("${voin.classification.workers:4}") int workers) {
+        this.classificationJobService = classificationJobService;
+        this.gptService = gptService;
+        this.executor = executor;
+        this.slots = new Semaphore(workers);
+    }
+
+    @Scheduled(fixedDelay = 1000, initialDelay = 30 * 1000)
+    public void poll() {
+        int free = slots.availablePermits();
+        if (free == 0) {
+            return;
+        }
+        List<ClaimedJob> jobs = classificationJobService.claim(free);
+        for (ClaimedJob job : jobs) {
+            slots.acquireUninterruptibly();
+            try {
+                executor.execute(() -> {
+                    try {
+                        process(job);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                // 종료 중이면 점유가 만료된 뒤 다른 인스턴스가 다시 가져감
+                slots.release();
+                log.warn("Classification job {} rejected by executor", job.jobId());
+            }
+        }
+    }
+
+    private void process(ClaimedJob job) {
+        StoryInput input = classificationJobService.loadInput(job.storyId());
+        if (input == null || input.text().isBlank()) {
+            classificationJobService.discard(job, input == null ? "스토리가 삭제되었습니다." : "분류할 내용이 없습니다.");
+            return;
+        }
+        if (input.stored() != null) {
+            // 본문이 바뀌지 않았으면 (예: 비어 있는 2단계 답변) 저장된 결과를 그대로 다시 알림
+            classificationJobService.complete(job, input.text(), input.stored());
+            return;
+        }
+
+        try {
+            Map<String, String> result = gptService.classifyValue(input.text()).block(PROCESS_TIMEOUT);
+            if (result == null || result.containsKey("error")) {
+                classificationJobService.fail(job, result == null ? "응답이 없습니다." : result.get("error"));
+                return;
+            }
+            if (result.getOrDefault("keyword", "").isEmpty()) {
+                classificationJobService.fail(job, "키워드가 분류되지 않았습니다.");
+                return;
+            }
+            classificationJobService.complete(job, input.text(), result);
+            log.debug("Classification job {} done (attempt {})", job.jobId(), job.attempt());
+        } catch (RuntimeException e) {
+            log.warn("Classification job {} attempt {} failed: {}", job.jobId(), job.attempt(), e.getMessage());
+            classificationJobService.fail(job, e.getMessage());
+        }
+    }
+}
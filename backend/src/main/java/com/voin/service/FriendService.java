@@ -1,17 +1,17 @@
 package com.voin.service;
 
 import com.voin.constant.FriendStatus;
+import com.voin.dto.response.CursorPageResponse;
 import com.voin.dto.response.FriendRequestResponse;
 import com.voin.dto.response.FriendCardResponse;
 import com.voin.entity.Friend;
 import com.voin.entity.Member;
-import com.voin.entity.Card;
+import com.voin.graph.FriendshipGraph;
 import com.voin.repository.FriendRepository;
 import com.voin.repository.MemberRepository;
-import com.voin.repository.CardRepository;
+import com.voin.security.CurrentMemberResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,15 +27,16 @@ public class FriendService {
 
     private final FriendRepository friendRepository;
     private final MemberRepository memberRepository;
-    private final CardRepository cardRepository;
+    private final TimelineService timelineService;
+    private final FriendshipGraph friendshipGraph;
+    private final MemberStatsService memberStatsService;
+    private final CurrentMemberResolver currentMemberResolver;
 
     /**
-     * 현재 로그인한 사용자 정보 가져오기
+     * 현재 로그인한 사용자 정보 가져오기 (요청당 한 번 조회, CurrentMemberResolver 참고)
      */
     private Member getCurrentMember() {
-        String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
-        return memberRepository.findById(UUID.fromString(memberId))
-                .orElseThrow(() -> new RuntimeException("로그인한 사용자를 찾을 수 없습니다."));
+        return currentMemberResolver.currentMember();
     }
 
     /**
@@ -52,16 +53,12 @@ public class FriendService {
         }
 
         // 이미 친구인 경우 체크
-        if (friendRepository.existsByFromMemberAndToMemberAndStatus(
-                currentMember, targetMember, FriendStatus.ACCEPTED) ||
-            friendRepository.existsByFromMemberAndToMemberAndStatus(
-                targetMember, currentMember, FriendStatus.ACCEPTED)) {
+        if (friendshipGraph.areFriends(currentMember.getId(), targetMember.getId())) {
             throw new RuntimeException("이미 친구 관계입니다.");
         }
 
         // 이미 요청을 보낸 경우 체크
-        if (friendRepository.existsByFromMemberAndToMemberAndStatus(
-                currentMember, targetMember, FriendStatus.PENDING)) {
+        if (friendshipGraph.hasPendingRequest(currentMember.getId(), targetMember.getId())) {
             throw new RuntimeException("이미 친구 요청을 보냈습니다.");
         }
 
@@ -72,6 +69,7 @@ public class FriendService {
                 .build();
 
         Friend savedRequest = friendRepository.save(friendRequest);
+        friendshipGraph.addPendingRequest(currentMember.getId(), targetMember.getId());
         return convertToFriendRequestResponse(savedRequest);
     }
 
@@ -106,7 +104,11 @@ public class FriendService {
         }
 
         friendRequest.setStatus(FriendStatus.ACCEPTED);
-        return convertToFriendRequestResponse(friendRepository.save(friendRequest));
+        Friend accepted = friendRepository.save(friendRequest);
+        friendshipGraph.acceptRequest(accepted.getFromMember().getId(), accepted.getToMember().getId());
+        timelineService.backfill(accepted.getFromMember().getId(), accepted.getToMember().getId());
+        memberStatsService.friendshipAdded(accepted.getFromMember().getId(), accepted.getToMember().getId());
+        return convertToFriendRequestResponse(accepted);
     }
 
     /**
@@ -128,35 +130,42 @@ public class FriendService {
         }
 
         friendRepository.delete(friendRequest);
+        friendshipGraph.removePendingRequest(friendRequest.getFromMember().getId(), currentMember.getId());
     }
 
     @Transactional
     public void deleteFriend(UUID friendMemberId) {
         Member currentMember = getCurrentMember();
+        if (!friendshipGraph.areFriends(currentMember.getId(), friendMemberId)) {
+            throw new RuntimeException("해당 친구 관계를 찾을 수 없습니다.");
+        }
         Friend friendship = friendRepository.findAcceptedFriendBetween(currentMember.getId(), friendMemberId)
                 .orElseThrow(() -> new RuntimeException("해당 친구 관계를 찾을 수 없습니다."));
         friendRepository.delete(friendship);
+        friendshipGraph.removeFriendship(currentMember.getId(), friendMemberId);
+        timelineService.unlink(currentMember.getId(), friendMemberId);
+        memberStatsService.friendshipRemoved(currentMember.getId(), friendMemberId);
         log.info("친구 삭제됨: {} <-> {}", currentMember.getId(), friendMemberId);
     }
 
 
     /**
      * 친구들의 피드(카드) 가져오기
+     * 미리 펼쳐 둔 내 타임라인에서 최근 카드를 읽습니다.
      */
+    @Transactional(readOnly = true)
     public List<FriendCardResponse> getFriendsFeed() {
-        String currentMemberId = SecurityContextHolder.getContext().getAuthentication().getName();
-        Member currentMember = memberRepository.findById(UUID.fromString(currentMemberId))
-                .orElseThrow(() -> new RuntimeException("로그인한 사용자를 찾을 수 없습니다."));
-        
-        // 수락된 친구 관계에서 친구들 목록 가져오기
-        List<Member> friends = friendRepository.findAcceptedFriends(currentMember);
-        
-        // 친구들의 공개 카드만 가져오기
-        List<Card> friendCards = cardRepository.findByOwnerInAndIsPublicTrueOrderByCreatedAtDesc(friends);
-        
-        return friendCards.stream()
-                .map(this::convertToFriendCardResponse)
-                .collect(Collectors.toList());
+        UUID currentMemberId = currentMemberResolver.currentMemberId();
+        return timelineService.getTimeline(currentMemberId);
+    }
+
+    /**
+     * 친구들의 피드(카드) 커서 기반 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<FriendCardResponse> getFriendsFeedByCursor(String cursor, int size) {
+        UUID currentMemberId = currentMemberResolver.currentMemberId();
+        return timelineService.getTimeline(currentMemberId, cursor, size);
     }
 
     /**
@@ -173,18 +182,4 @@ public class FriendService {
                 .createdAt(friend.getCreatedAt())
                 .build();
     }
-
-    /**
-     * Card 엔티티를 FriendCardResponse DTO로 변환
-     */
-    private FriendCardResponse convertToFriendCardResponse(Card card) {
-        return FriendCardResponse.builder()
-                .cardId(card.getId())
-                .memberId(card.getOwner().getId().toString())
-                .memberNickname(card.getOwner().getNickname())
-                .content(card.getContent())
-                .coinType(card.getCoinName())
-                .createdAt(card.getCreatedAt())
-                .build();
-    }
-} 
\ No newline at end of file
+}
\ No newline at end of file
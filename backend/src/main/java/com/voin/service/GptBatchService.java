@@ -0,0 +1,181 @@
+package com.voin.service;
+
+import com.voin.config.GptConfig;
+import com.voin.dto.request.GptClassifyBatchRequest;
+import com.voin.dto.response.GptClassifyBatchItem;
+import com.voin.entity.Story;
+import com.voin.exception.GptRejectedException;
+import com.voin.repository.StoryRepository;
+import com.voin.resilience.GptGuard;
+import com.voin.security.CurrentMemberResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * GPT 일괄 분류 서비스 (백필, 마이그레이션용)
+ *
+ * 1. 스토리 ID 는 한 번의 IN 쿼리로 본문을 읽고, 내 스토리가 아니면 해당 항목만 실패 처리합니다.
+ * 2. 스토리에 현재 내용 기준 분류 결과가 저장되어 있으면 그대로 쓰고, 나머지 중 같은 입력은 한 번만 분류합니다.
+ *    (GptResultCache 키 기준)
+ * 3. 캐시에 없는 입력마다 회원의 요청 한도(classify-batch)에서 토큰을 하나씩 씁니다.
+ *    한도를 넘은 항목은 분류하지 않고 실패로 돌려줍니다. (요청 한 건으로 수십 번 호출되지 않도록)
+ * 4. 서로 다른 입력은 최대 parallelism 개까지만 동시에 분류해 OpenAI 에 몰리지 않게 합니다.
+ * 5. 결과는 요청 순서대로, 항목별 성공/실패와 함께 반환합니다.
+ */
+@Slf4j
+@Service
+public class GptBatchService {
+
+    private final GptService gptService;
+    private final GptConfig gptConfig;
+    private final StoryRepository storyRepository;
+    private final CurrentMemberResolver currentMemberResolver;
+    private final ClassificationJobService classificationJobService;
+    private final GptResultCache gptResultCache;
+    private final GptGuard gptGuard;
+    private final int maxParallelism;
+
+    public GptBatchService(GptService gptService,
+                           GptConfig gptConfig,
+                           StoryRepository storyRepository,
+                           CurrentMemberResolver currentMemberResolver,
+                           ClassificationJobService classificationJobService,
+                           GptResultCache gptResultCache,
+                           GptGuard gptGuard,
+                           @Value("${voin.gpt.batch.max-parallelism:4}") int maxParallelism) {
+        this.gptService = gptService;
+        this.gptConfig = gptConfig;
+        this.storyRepository = storyRepository;
+        this.currentMemberResolver = currentMemberResolver;
+        this.classificationJobService = classificationJobService;
+        this.gptResultCache = gptResultCache;
+        this.gptGuard = gptGuard;
+        this.maxParallelism = Math.max(1, maxParallelism);
+    }
+
+    /**
+     * 여러 스토리/글을 일괄 분류합니다
+     * 스토리 조회는 호출 스레드에서 끝내고, 분류는 논블로킹으로 진행합니다.
+     */
+    public Mono<List<GptClassifyBatchItem>> classifyBatch(GptClassifyBatchRequest request) {
+        List<Input> inputs = request.getStoryIds() != null && !request.getStoryIds().isEmpty()
+                ? loadStoryInputs(request.getStoryIds())
+                : request.getTexts().stream().map(text -> new Input(null, text, keyOf(text), null, null)).toList();
+        int parallelism = request.getParallelism() == null
+                ? maxParallelism
+                : Math.min(request.getParallelism(), maxParallelism);
+
+        // 같은 입력은 한 번만 분류, 캐시에 있으면 그대로 사용
+        Map<String, Map<String, String>> results = new HashMap<>();
+        Map<String, String> distinctInputs = new LinkedHashMap<>();
+        for (Input input : inputs) {
+            if (input.error() != null || input.stored() != null) {
+                continue;
+            }
+            String key = input.key();
+            if (results.containsKey(key) || distinctInputs.containsKey(key)) {
+                continue;
+            }
+            Map<String, String> cached = gptResultCache.get(key);
+            if (cached != null) {
+                results.put(key, cached);
+            } else {
+                distinctInputs.put(key, input.text());
+            }
+        }
+        // 실제로 분류할 입력 수만큼 요청 한도 차감
+        String clientKey = currentMemberResolver.currentMemberId().toString();
+        distinctInputs.entrySet().removeIf(entry -> {
+            try {
+                gptGuard.checkRateLimit("classify-batch", clientKey);
+                return false;
+            } catch (GptRejectedException e) {
+                results.put(entry.getKey(), Map.of("error", e.getMessage()));
+                return true;
+            }
+        });
+        log.info("GPT batch classify: {} items, {} cached or rejected, {} to classify, parallelism={}",
+                inputs.size(), results.size(), distinctInputs.size(), parallelism);
+
+        return Flux.fromIterable(distinctInputs.entrySet())
+                .flatMap(entry -> gptService.classifyValue(entry.getValue())
+                        .map(result -> Tuples.of(entry.getKey(), result))
+                        .onErrorResume(e -> Mono.just(Tuples.of(entry.getKey(), Map.of("error", reason(e))))),
+                        parallelism)
+                .collectMap(tuple -> tuple.getT1(), tuple -> tuple.getT2(), () -> results)
+                .map(classified -> {
+                    List<GptClassifyBatchItem> items = new ArrayList<>(inputs.size());
+                    for (int i = 0; i < inputs.size(); i++) {
+                        Input input = inputs.get(i);
+                        String error = input.error();
+                        Map<String, String> result = null;
+                        if (error == null && input.stored() != null) {
+                            result = input.stored();
+                        } else if (error == null) {
+                            result = classified.get(input.key());
+                            error = result.get("error");
+                        }
+                        items.add(GptClassifyBatchItem.builder()
+                                .index(i)
+                                .storyId(input.storyId())
+                                .success(error == null)
+                                .result(error == null ? result : null)
+                                .error(error)
+                                .build());
+                    }
+                    return items;
+                });
+    }
+
+    private List<Input> loadStoryInputs(List<Long> storyIds) {
+        UUID memberId = currentMemberResolver.currentMemberId();
+        Map<Long, Story> storiesById = storyRepository.findAllById(storyIds).stream()
+                .collect(Collectors.toMap(Story::getId, Function.identity()));
+
+        List<Input> inputs = new ArrayList<>(storyIds.size());
+        for (Long storyId : storyIds) {
+            Story story = storiesById.get(storyId);
+            if (story == null || !story.belongsToMember(memberId)) {
+                inputs.add(new Input(storyId, null, null, "스토리를 찾을 수 없습니다.", null));
+                continue;
+            }
+            String text = story.toClassificationInput();
+            inputs.add(text.isEmpty()
+                    ? new Input(storyId, null, null, "분류할 내용이 없습니다.", null)
+                    : new Input(storyId, text, keyOf(text), null, classificationJobService.storedResult(story).orElse(null)));
+        }
+        return inputs;
+    }
+
+    private String keyOf(String text) {
+        return GptResultCache.key("classify", gptConfig.getModel(), gptService.classifyPromptVersion(), text);
+    }
+
+    private String reason(Throwable e) {
+        if (e instanceof GptRejectedException rejected) {
+            return rejected.getMessage();
+        }
+        log.error("GPT 일괄 분류 항목 처리 중 오류 발생", e);
+        return "GPT API 호출 중 오류가 발생했습니다.";
+    }
+
+    /**
+     * @param key 입력을 만들 때 한 번 계산한 캐시 키 (배치 도중 프롬프트 버전이 바뀌어도 같은 키로 결과를 찾도록)
+     * @param stored 스토리에 저장된 현재 분류 결과 (있으면 GPT 를 호출하지 않음)
+     */
+    private record Input(Long storyId, String text, String key, String error, Map<String, String> stored) {
+    }
+}
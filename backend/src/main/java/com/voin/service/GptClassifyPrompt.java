@@ -0,0 +1,140 @@
+package com.voin.service;
+
+import com.voin.search.KeywordCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 장점 분류용 시스템 프롬프트 (코인/키워드 마스터 데이터로 생성)
+ *
+ * 카테고리와 키워드 정의를 "카테고리: 키워드=정의; ..." 한 줄씩으로 압축해 넣고,
+ * 응답은 JSON 객체({"category","keyword","summary"})로 받습니다.
+ * 버전은 프롬프트 전체의 해시라 키워드 정의가 바뀌면 자동으로 달라지고,
+ * 이전 버전으로 캐시/저장된 분류 결과는 재사용되지 않습니다.
+ *
+ * 키워드 목록은 KeywordCatalog 에서 받고, 목록이 바뀌면 다음 호출 때 프롬프트를 다시 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GptClassifyPrompt {
+
+    // 아래 지침이나 응답 형식을 바꾸면 올립니다 (마스터 데이터 변경은 해시로 반영됨)
+    private static final String TEMPLATE_VERSION = "classify-v2";
+    private static final int VERSION_HASH_LENGTH = 12;
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final String INSTRUCTIONS = """
+            너는 사용자의 글(일상 기록, 자신의 사례 회고, 친구의 사례 회고)에서 장점 카테고리 1개와 키워드 1개를 고르고, 내용을 요약하는 AI야. 입력이 같으면 항상 같은 결과를 내.
+            사례 회고는 '상황 맥락, 행동, 그 행동에 대한 생각' 순서로 나뉘어 들어오니 종합해서 해석해.
+
+            분류
+            - 글에서 가장 중심이 되는 가치, 신념, 행동의 동기를 찾아 아래 정의 중 가장 정확히 맞는 키워드 1개만 고른다.
+            - 반드시 목록에 있는 키워드와 그 키워드의 카테고리를 그대로 쓰고, 억지 해석은 하지 않는다.
+            - 애매하면 가장 두드러진 가치나 행동의 성격을 기준으로 고른다.
+
+            요약
+            - 50~60자, 가능하면 60자에 가깝게 한 문장으로 행동, 감정, 결과가 함께 드러나게 쓴다.
+            - "~했어요" 존댓말만 쓰고 "~셨어요" 높임, 감탄형(멋져요, 대단해요), 부정적 어휘, 나열형은 쓰지 않는다.
+            - 평가하지 않고 사실 중심으로 따뜻하게, 긍정적인 결과나 변화로 마무리한다.
+
+            응답은 다른 말 없이 JSON 객체 하나로만: {"category":"카테고리","keyword":"키워드","summary":"요약"}
+
+            장점 카테고리: 키워드=정의
+            """;
+
+    private final KeywordCatalog keywordCatalog;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * 현재 시스템 프롬프트
+     */
+    public String text() {
+        return current().text();
+    }
+
+    /**
+     * 현재 프롬프트 버전 (지침 버전 + 프롬프트 해시)
+     */
+    public String version() {
+        return current().version();
+    }
+
+    /**
+     * 응답의 키워드를 목록의 키워드 이름으로 맞춥니다 ("유머감각" → "유머 감각")
+     * @return 목록에 없는 키워드면 null
+     */
+    public String keywordOf(String answer) {
+        return answer == null ? null : current().keywords().get(compact(answer));
+    }
+
+    /**
+     * 키워드가 속한 카테고리
+     * @return 목록에 없는 키워드면 null
+     */
+    public String categoryOf(String keyword) {
+        return keyword == null ? null : current().categories().get(keyword);
+    }
+
+    /**
+     * 키워드 목록이 바뀌었으면 프롬프트를 다시 만듭니다
+     */
+    private Snapshot current() {
+        List<KeywordCatalog.Entry> entries = keywordCatalog.entries();
+        Snapshot current = snapshot;
+        if (current == null || current.entries() != entries) {
+            current = build(entries);
+            snapshot = current;
+        }
+        return current;
+    }
+
+    private Snapshot build(List<KeywordCatalog.Entry> entries) {
+        Map<String, String> categories = new LinkedHashMap<>();
+        Map<String, String> keywords = new HashMap<>();
+        Map<String, StringBuilder> lines = new LinkedHashMap<>();
+        for (KeywordCatalog.Entry entry : entries) {
+            String keyword = entry.keyword();
+            String description = entry.description();
+            String category = entry.category();
+            categories.put(keyword, category);
+            keywords.put(compact(keyword), keyword);
+            StringBuilder line = lines.computeIfAbsent(category, c -> new StringBuilder(c).append(": "));
+            if (line.length() > category.length() + 2) {
+                line.append("; ");
+            }
+            line.append(keyword);
+            if (description != null && !description.isBlank()) {
+                line.append('=').append(description.trim());
+            }
+        }
+
+        StringBuilder prompt = new StringBuilder(INSTRUCTIONS);
+        lines.values().forEach(line -> prompt.append(line).append('\n'));
+        String text = prompt.toString();
+        String version = TEMPLATE_VERSION + '-'
+                + GptResultCache.contentHash(text).substring(0, VERSION_HASH_LENGTH);
+        log.info("Classify prompt built: version {}, {} keywords, {} chars",
+                version, categories.size(), text.length());
+        return new Snapshot(entries, text, version, Map.copyOf(categories), Map.copyOf(keywords));
+    }
+
+    private static String compact(String keyword) {
+        return WHITESPACE.matcher(keyword).replaceAll("");
+    }
+
+    /**
+     * @param entries 프롬프트를 만든 키워드 목록 (KeywordCatalog 의 목록이 바뀌었는지 참조로 비교)
+     */
+    private record Snapshot(List<KeywordCatalog.Entry> entries, String text, String version,
+                            Map<String, String> categories, Map<String, String> keywords) {
+    }
+}
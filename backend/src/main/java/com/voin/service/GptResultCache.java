@@ -0,0 +1,231 @@
+package com.voin.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * GPT 분류/요약 결과 캐시 (L1 메모리 LRU + L2 디스크)
+ *
+ * 키는 (작업, 모델, 프롬프트 버전, 정규화된 입력) 의 SHA-256 이므로
+ * 프롬프트를 바꿀 때 버전만 올리면 이전 결과는 자연히 쓰이지 않고 TTL 이 지나 정리됩니다.
+ * L2 는 키당 JSON 파일 하나로 저장되어 재시작 후에도 유지되며, 주기적으로 만료/초과분을 지웁니다.
+ * 오류 응답은 캐시하지 않습니다. (호출하는 쪽에서 걸러서 put)
+ */
+@Slf4j
+@Component
+public class GptResultCache {
+
+    private static final int MAX_MEMORY_ENTRIES = 1000;
+    private static final int MAX_DISK_ENTRIES = 20000;
+    private static final long TTL_MILLIS = Duration.ofDays(30).toMillis();
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_MEMORY_ENTRIES;
+        }
+    };
+
+    public GptResultCache(ObjectMapper objectMapper,
+                          @Value("${voin.gpt.cache.dir:/home/ubuntu/voin/cache/gpt}") String directory) {
+        this.objectMapper = objectMapper;
+        this.directory = Paths.get(directory);
+    }
+
+    /**
+     * 캐시 키를 만듭니다
+     * 입력은 유니코드 정규화(NFC) 후 공백을 하나로 합쳐 비교하므로 줄바꿈/공백 차이는 같은 입력으로 봅니다.
+     */
+    public static String key(String operation, String model, String promptVersion, String input) {
+        return sha256(operation + '\n' + model + '\n' + promptVersion + '\n' + normalize(input));
+    }
+
+    /**
+     * 입력 내용만의 해시 (캐시 키와 같은 정규화, 스토리에 저장된 분류 결과가 현재 내용과 맞는지 확인용)
+     */
+    public static String contentHash(String input) {
+        return sha256(normalize(input));
+    }
+
+    private static String normalize(String input) {
+        return input == null ? "" : WHITESPACE.matcher(
+                Normalizer.normalize(input, Normalizer.Form.NFC)).replaceAll(" ").trim();
+    }
+
+    private static String sha256(String material) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(material.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 캐시된 결과를 조회합니다 (L1 → L2 순서, L2 에서 찾으면 L1 에 올림)
+     * @return 결과 복사본, 없거나 만료되었으면 null
+     */
+    public Map<String, String> get(String key) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (entry.expiresAt() > now) {
+                    return new HashMap<>(entry.value());
+                }
+                entries.remove(key);
+            }
+        }
+
+        Entry stored = readFromDisk(key, now);
+        if (stored == null) {
+            return null;
+        }
+        synchronized (entries) {
+            entries.put(key, stored);
+        }
+        return new HashMap<>(stored.value());
+    }
+
+    /**
+     * 결과를 L1, L2 에 저장합니다 (디스크 쓰기 실패는 로그만 남김)
+     */
+    public void put(String key, Map<String, String> value) {
+        Entry entry = new Entry(Map.copyOf(value), System.currentTimeMillis() + TTL_MILLIS);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+        writeToDisk(key, entry);
+    }
+
+    /**
+     * 만료된 디스크 항목을 지우고, 최대 개수를 넘으면 오래 쓰이지 않은 것부터 지웁니다
+     */
+    @Scheduled(fixedDelay = 60 * 60 * 1000, initialDelay = 10 * 60 * 1000)
+    public void evictDiskEntries() {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        long expiredBefore = System.currentTimeMillis() - TTL_MILLIS;
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(directory, 2)) {
+            files = walk.filter(path -> path.toString().endsWith(".json")).toList();
+        } catch (IOException e) {
+            log.warn("GPT 캐시 디렉토리 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        int removed = 0;
+        List<PathWithTime> live = new ArrayList<>();
+        for (Path file : files) {
+            long lastUsed = lastModified(file);
+            if (lastUsed < expiredBefore) {
+                removed += delete(file);
+            } else {
+                live.add(new PathWithTime(file, lastUsed));
+            }
+        }
+        if (live.size() > MAX_DISK_ENTRIES) {
+            live.sort(Comparator.comparingLong(PathWithTime::lastUsed));
+            for (PathWithTime entry : live.subList(0, live.size() - MAX_DISK_ENTRIES)) {
+                removed += delete(entry.path());
+            }
+        }
+        if (removed > 0) {
+            log.info("GPT cache: evicted {} disk entries", removed);
+        }
+    }
+
+    private Entry readFromDisk(String key, long now) {
+        Path file = fileFor(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            Entry entry = objectMapper.readValue(file.toFile(), Entry.class);
+            if (entry.expiresAt() <= now) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            // 수정 시간을 마지막 사용 시각으로 사용 (초과분 정리 시 LRU 기준)
+            Files.setLastModifiedTime(file, FileTime.fromMillis(now));
+            return entry;
+        } catch (IOException e) {
+            log.warn("GPT 캐시 읽기 실패: {} ({})", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToDisk(String key, Entry entry) {
+        Path file = fileFor(key);
+        try {
+            Files.createDirectories(file.getParent());
+            Path temp = Files.createTempFile(file.getParent(), "gpt-", ".part");
+            try {
+                objectMapper.writeValue(temp.toFile(), entry);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            log.warn("GPT 캐시 쓰기 실패: {} ({})", file, e.getMessage());
+        }
+    }
+
+    /**
+     * 한 디렉토리에 파일이 몰리지 않도록 키 앞 2자리로 나눕니다 (ab/abcdef....json)
+     */
+    private Path fileFor(String key) {
+        return directory.resolve(key.substring(0, 2)).resolve(key + ".json");
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private int delete(Path file) {
+        try {
+            return Files.deleteIfExists(file) ? 1 : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private record Entry(Map<String, String> value, long expiresAt) {
+    }
+
+    private record PathWithTime(Path path, long lastUsed) {
+    }
+}
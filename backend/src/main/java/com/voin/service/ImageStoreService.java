@@ -0,0 +1,200 @@
+package com.voin.service;
+
+import com.voin.config.DatabaseDialect;
+import com.voin.entity.ImageBlob;
+import com.voin.repository.ImageBlobRepository;
+import com.voin.util.ImageUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 내용 주소 기반(content-addressed) 프로필 이미지 저장소
+ *
+ * 파일은 ImageUtil 이 SHA-256 파일명으로 저장하고, 여기서는 image_blobs 의 참조 수를 관리합니다.
+ * - 같은 이미지를 다시 올리면 파일은 그대로 두고 참조 수만 늘립니다.
+ * - 회원이 프로필을 바꾸거나 탈퇴하면 이전 이미지의 참조 수를 줄입니다.
+ * - 참조 수가 0 인 채 유예 기간이 지난 이미지는 주기적으로 묶어서 삭제합니다.
+ * 이전 방식(UUID 파일명)이나 외부 URL 은 관리 대상이 아니므로 무시합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ImageStoreService {
+
+    // 업로드 직후 회원에 연결되기 전이나 되돌린 프로필이 바로 지워지지 않도록 두는 유예 기간
+    private static final Duration GC_GRACE_PERIOD = Duration.ofHours(1);
+    private static final int GC_BATCH_SIZE = 200;
+
+    private final ImageBlobRepository imageBlobRepository;
+    private final ImageUtil imageUtil;
+    private final ImageVariantService imageVariantService;
+    private final PlatformTransactionManager transactionManager;
+    private final DatabaseDialect databaseDialect;
+
+    /**
+     * multipart 이미지를 저장하고 참조 수를 1 늘립니다
+     * @return 이미지 URL (같은 내용이면 항상 같은 URL)
+     */
+    @Transactional
+    public String store(MultipartFile file) throws IOException {
+        return register(imageUtil.saveImage(file));
+    }
+
+    /**
+     * Base64 이미지를 저장하고 참조 수를 1 늘립니다
+     * @return 이미지 URL (같은 내용이면 항상 같은 URL)
+     */
+    @Transactional
+    public String storeBase64(String base64Data, String originalFileName) throws IOException {
+        return register(imageUtil.saveBase64Image(base64Data, originalFileName));
+    }
+
+    /**
+     * 프로필 이미지 URL 이 바뀌었을 때 새 이미지는 참조를 늘리고 이전 이미지는 줄입니다
+     */
+    @Transactional
+    public void replace(String oldImageUrl, String newImageUrl) {
+        if (Objects.equals(oldImageUrl, newImageUrl)) {
+            return;
+        }
+        retain(newImageUrl);
+        release(oldImageUrl);
+    }
+
+    /**
+     * 이미 저장된 이미지의 참조 수를 1 늘립니다
+     */
+    @Transactional
+    public void retain(String imageUrl) {
+        String hash = ImageUtil.contentHash(imageUrl);
+        if (hash != null) {
+            imageBlobRepository.adjustRefCount(hash, 1);
+        }
+    }
+
+    /**
+     * 이미지의 참조 수를 1 줄입니다 (0 이 되어도 바로 지우지 않고 GC 가 정리)
+     */
+    @Transactional
+    public void release(String imageUrl) {
+        String hash = ImageUtil.contentHash(imageUrl);
+        if (hash != null) {
+            imageBlobRepository.adjustRefCount(hash, -1);
+        }
+    }
+
+    /**
+     * 참조되지 않은 이미지를 한 번에 최대 GC_BATCH_SIZE 개씩 정리합니다
+     * 메타데이터는 다시 참조되지 않았을 때만 지우고, 파일은 커밋된 뒤에 지웁니다.
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000, initialDelay = 5 * 60 * 1000)
+    @Transactional
+    public void collectGarbage() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(GC_GRACE_PERIOD);
+        List<ImageBlob> candidates = imageBlobRepository.findUnreferenced(cutoff, PageRequest.of(0, GC_BATCH_SIZE));
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        List<String> fileNames = new ArrayList<>();
+        for (ImageBlob blob : candidates) {
+            if (imageBlobRepository.deleteIfUnreferenced(blob.getHash(), cutoff) > 0) {
+                fileNames.add(blob.getFileName());
+            }
+        }
+
+        Instant fileCutoff = Instant.now().minus(GC_GRACE_PERIOD);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                int deleted = 0;
+                for (String fileName : fileNames) {
+                    try {
+                        if (imageUtil.deleteStoredImage(fileName, fileCutoff)) {
+                            deleted++;
+                        }
+                    } catch (IOException e) {
+                        log.warn("미참조 이미지 삭제 실패: {} ({})", fileName, e.getMessage());
+                    }
+                }
+                log.info("Image GC: {} blobs removed, {} files deleted", fileNames.size(), deleted);
+            }
+        });
+    }
+
+    /**
+     * 방금 저장한 이미지의 참조 수를 늘리고, 처음 보는 이미지면 메타데이터를 만들고 썸네일을 생성합니다
+     * 처음 보는 이미지의 썸네일은 커밋된 뒤에 만들고, 롤백되면 방금 쓴 파일을 지웁니다.
+     */
+    private String register(String imageUrl) throws IOException {
+        String hash = ImageUtil.contentHash(imageUrl);
+        if (imageBlobRepository.adjustRefCount(hash, 1) > 0) {
+            log.info("Duplicate image upload, reusing blob: {}", hash);
+            return imageUrl;
+        }
+
+        Path path = imageUtil.resolveStoredPath(imageUrl);
+        String fileName = path.getFileName().toString();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                imageVariantService.generateVariants(imageUrl);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    deleteUnregistered(hash, fileName);
+                }
+            }
+        });
+        // 같은 이미지가 동시에 올라와도 한쪽이 PK 위반으로 실패하지 않도록 등록 또는 참조 수 증가를 한 번에
+        long size = Files.size(path);
+        if (databaseDialect.isPostgres()) {
+            imageBlobRepository.insertOrRetain(hash, fileName, size);
+        } else {
+            imageBlobRepository.insertOrRetainByMerge(hash, fileName, size);
+        }
+        return imageUrl;
+    }
+
+    /**
+     * 롤백된 업로드의 파일을 지웁니다
+     * 같은 이미지를 동시에 올린 다른 요청이 먼저 메타데이터를 커밋했으면 그 파일이므로 남겨 둡니다.
+     */
+    private void deleteUnregistered(String hash, String fileName) {
+        TransactionTemplate lookup = new TransactionTemplate(transactionManager);
+        lookup.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        lookup.setReadOnly(true);
+        try {
+            if (Boolean.TRUE.equals(lookup.execute(status -> imageBlobRepository.existsById(hash)))) {
+                return;
+            }
+            imageUtil.deleteStoredImage(fileName, Instant.MAX);
+            log.info("Rolled back image upload, file deleted: {}", fileName);
+        } catch (Exception e) {
+            log.warn("롤백된 이미지 삭제 실패: {} ({})", fileName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.voin.service;
+
+import com.voin.constant.ImageVariant;
+import com.voin.util.ImageUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 프로필 이미지 썸네일 생성 서비스
+ *
+ * 원본이 저장된 뒤 imageVariantExecutor 풀에서 비동기로 SMALL / MEDIUM 썸네일을 만듭니다.
+ * 결과는 품질 80% JPEG 로 원본 옆에 저장되며 (ImageUtil.variantFileName 참고),
+ * 요청 스레드는 작업을 큐에 넣고 바로 반환합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final ImageUtil imageUtil;
+
+    /**
+     * 로컬에 저장된 이미지의 썸네일을 비동기로 생성합니다 (외부 URL 은 무시)
+     * @param imageUrl 원본 이미지 URL (예: /images/profiles/abc.png)
+     */
+    @Async("imageVariantExecutor")
+    public void generateVariants(String imageUrl) {
+        Path original = imageUtil.resolveStoredPath(imageUrl);
+        if (original == null || !Files.exists(original)) {
+            return;
+        }
+
+        try {
+            BufferedImage source = ImageIO.read(original.toFile());
+            if (source == null) {
+                log.warn("썸네일 생성 불가 (지원하지 않는 이미지): {}", original);
+                return;
+            }
+            for (ImageVariant variant : ImageVariant.values()) {
+                Path target = original.resolveSibling(
+                        ImageUtil.variantFileName(original.getFileName().toString(), variant));
+                writeJpeg(resize(source, variant.getMaxSize()), target);
+            }
+            log.info("썸네일 생성 완료: {}", original.getFileName());
+        } catch (Exception e) {
+            log.warn("썸네일 생성 실패: {} ({})", original, e.getMessage());
+        }
+    }
+
+    /**
+     * 비율을 유지하며 긴 변이 maxSize 이하가 되도록 축소합니다 (확대하지 않음)
+     * 큰 이미지는 절반씩 여러 번 줄여 계단 현상을 줄입니다.
+     */
+    private BufferedImage resize(BufferedImage source, int maxSize) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxSize / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    /**
+     * 투명 배경은 흰색으로 채워 RGB 이미지로 그립니다 (JPEG 저장용)
+     */
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        Path temp = Files.createTempFile(target.getParent(), "variant-", ".part");
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        } finally {
+            writer.dispose();
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
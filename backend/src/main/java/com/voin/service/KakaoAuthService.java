@@ -2,7 +2,7 @@ package com.voin.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.voin.http.OutboundHttpClients;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -19,7 +19,6 @@ import java.util.Map;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KakaoAuthService {
 
     @Value("${kakao.client-id}")
@@ -37,9 +36,14 @@ public class KakaoAuthService {
     @Value("${kakao.redirect-uri}")   // 예: http://localhost:8080/auth/kakao/callback
     private String redirectUri;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    // 로그인마다 TLS 연결을 새로 맺지 않도록 공용 커넥션 풀 사용 (kakao 정책)
+    private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    public KakaoAuthService(OutboundHttpClients outboundHttpClients) {
+        this.restTemplate = outboundHttpClients.restTemplate("kakao");
+    }
+
     /**
      * 카카오 로그인 인증 URL 생성 (기본)
      */
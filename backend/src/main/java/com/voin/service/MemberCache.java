@@ -0,0 +1,83 @@
+package com.voin.service;
+
+import com.voin.entity.Member;
+import com.voin.exception.ResourceNotFoundException;
+import com.voin.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 회원 엔티티 L1 캐시 (LRU + TTL)
+ *
+ * 인증된 요청마다 반복되는 회원 PK 조회를 줄이기 위해 사용합니다.
+ * 캐시된 Member 는 영속성 컨텍스트에서 분리된 객체이므로 조회/연관관계 지정 용도로만 쓰고,
+ * 회원 정보를 변경할 때는 새로 조회한 뒤 저장하고 invalidate 해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberCache {
+
+    private static final int MAX_ENTRIES = 1000;
+    private static final long TTL_MILLIS = 60 * 1000L;
+
+    private final MemberRepository memberRepository;
+
+    private final Map<UUID, Entry> entries = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * 회원을 조회합니다 (캐시에 없거나 만료되었으면 DB 에서 조회)
+     */
+    public Member get(UUID memberId) {
+        long now = System.currentTimeMillis();
+        synchronized (entries) {
+            Entry entry = entries.get(memberId);
+            if (entry != null && entry.expiresAt() > now) {
+                return entry.member();
+            }
+        }
+
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new ResourceNotFoundException("Member not found with id: " + memberId));
+        synchronized (entries) {
+            entries.put(memberId, new Entry(member, now + TTL_MILLIS));
+        }
+        return member;
+    }
+
+    /**
+     * 회원 정보가 바뀌었을 때 캐시에서 제거합니다 (프로필 수정, 탈퇴)
+     * 트랜잭션 안이면 커밋 이후에 한 번 더 제거합니다.
+     * (커밋 전에 다른 요청이 이전 값을 다시 캐시하더라도 남지 않도록)
+     */
+    public void invalidate(UUID memberId) {
+        remove(memberId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(memberId);
+                }
+            });
+        }
+    }
+
+    private void remove(UUID memberId) {
+        synchronized (entries) {
+            entries.remove(memberId);
+        }
+    }
+
+    private record Entry(Member member, long expiresAt) {
+    }
+}
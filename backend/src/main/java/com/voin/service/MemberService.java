@@ -1,18 +1,25 @@
 package com.voin.service;
 
+import com.voin.constant.ImageVariant;
 import com.voin.dto.request.MemberUpdateRequest;
 import com.voin.dto.response.MemberResponse;
 import com.voin.entity.Member;
+import com.voin.entity.MemberStats;
 import com.voin.exception.ResourceNotFoundException;
+import com.voin.graph.FriendshipGraph;
 import com.voin.repository.CardRepository;
 import com.voin.repository.FriendRepository;
 import com.voin.repository.MemberRepository;
+import com.voin.security.CurrentMemberResolver;
+import com.voin.util.ImageUtil;
+import com.voin.search.NicknameIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,14 +36,21 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final CardRepository cardRepository;
     private final FriendRepository friendRepository;
+    private final FriendshipGraph friendshipGraph;
+    private final NicknameIndex nicknameIndex;
+    private final MemberStatsService memberStatsService;
+    private final TimelineService timelineService;
+    private final CurrentMemberResolver currentMemberResolver;
+    private final MemberCache memberCache;
+    private final ImageStoreService imageStoreService;
+
+    private static final int MAX_SEARCH_RESULTS = 50;
 
     /**
-     * 현재 로그인한 사용자 정보 가져오기
+     * 현재 로그인한 사용자 정보 가져오기 (요청당 한 번 조회, CurrentMemberResolver 참고)
      */
     private Member getCurrentMember() {
-        String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
-        return memberRepository.findById(UUID.fromString(memberId))
-                .orElseThrow(() -> new RuntimeException("로그인한 사용자를 찾을 수 없습니다."));
+        return currentMemberResolver.currentMember();
     }
 
     /**
@@ -52,32 +66,66 @@ public class MemberService {
      */
     @Transactional
     public MemberResponse updateMyInfo(MemberUpdateRequest request) {
-        Member member = getCurrentMember();
+        // 캐시된 회원은 분리된 객체이므로 수정할 때는 새로 조회
+        Member member = findById(currentMemberResolver.currentMemberId());
         
         if (request.getNickname() != null && !request.getNickname().trim().isEmpty()) {
             member.updateNickname(request.getNickname());
         }
         
         if (request.getProfileImage() != null) {
+            imageStoreService.replace(member.getProfileImage(), request.getProfileImage());
             member.updateProfileImage(request.getProfileImage());
         }
         
         Member updatedMember = memberRepository.save(member);
+        nicknameIndex.index(updatedMember);
+        memberCache.invalidate(updatedMember.getId());
         log.info("Member info updated: id={}", updatedMember.getId());
         
         return convertToMemberResponse(updatedMember);
     }
 
+    /**
+     * 프로필 이미지 업로드 및 변경 (multipart 스트리밍 저장)
+     */
+    @Transactional
+    public MemberResponse updateMyProfileImage(MultipartFile imageFile) {
+        String profileImageUrl;
+        try {
+            profileImageUrl = imageStoreService.store(imageFile);
+        } catch (IOException e) {
+            log.error("프로필 이미지 저장 실패: {}", e.getMessage());
+            throw new RuntimeException("프로필 이미지 처리 중 오류가 발생했습니다: " + e.getMessage());
+        }
+
+        Member member = findById(currentMemberResolver.currentMemberId());
+        imageStoreService.release(member.getProfileImage());
+        member.updateProfileImage(profileImageUrl);
+        Member updatedMember = memberRepository.save(member);
+        memberCache.invalidate(updatedMember.getId());
+        log.info("Member profile image uploaded: id={}, url={}", updatedMember.getId(), profileImageUrl);
+
+        return convertToMemberResponse(updatedMember);
+    }
+
     /**
      * 닉네임으로 회원 검색
+     * 닉네임 인덱스에서 부분/초성 일치 회원 ID 를 찾은 뒤 해당 회원만 조회합니다.
+     * @param nickname 검색어 (예: "철수", "ㄱㅊㅅ")
+     * @param limit 최대 결과 수 (1~50)
      */
-    public List<MemberResponse> searchByNickname(String nickname) {
-        List<Member> allMembers = memberRepository.findAll();
-        List<Member> members = allMembers.stream()
-                .filter(member -> member.getNickname() != null && 
-                        member.getNickname().toLowerCase().contains(nickname.toLowerCase()))
-                .collect(Collectors.toList());
-        return members.stream()
+    public List<MemberResponse> searchByNickname(String nickname, int limit) {
+        List<UUID> ids = nicknameIndex.search(nickname, Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS)));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Member> membersById = memberRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Member::getId, member -> member));
+        return ids.stream()
+                .map(membersById::get)
+                .filter(member -> member != null)
                 .map(this::convertToMemberResponse)
                 .collect(Collectors.toList());
     }
@@ -100,21 +148,29 @@ public class MemberService {
         
         // 관련 데이터 삭제는 DB의 CASCADE 설정이나 별도 로직으로 처리
         // 여기서는 회원만 삭제
+        memberStatsService.memberDeleted(member.getId());
         memberRepository.delete(member);
+        imageStoreService.release(member.getProfileImage());
+        nicknameIndex.remove(member.getId());
+        friendshipGraph.removeMember(member.getId());
+        timelineService.memberDeleted(member.getId());
+        memberCache.invalidate(member.getId());
         log.info("Member account deleted: id={}", member.getId());
     }
 
     /**
      * 내 통계 정보 조회
+     * member_stats 읽기 모델을 PK 로 조회합니다. (최초 조회 시에만 COUNT 로 초기화)
      */
+    @Transactional
     public Map<String, Object> getMyStats() {
         Member member = getCurrentMember();
+        MemberStats memberStats = memberStatsService.getStats(member.getId());
         
         Map<String, Object> stats = new HashMap<>();
-        // 기본 통계 정보만 제공 (실제 카운트는 별도 구현 필요)
-        stats.put("cardCount", 0);
-        stats.put("friendCount", 0);
-        stats.put("publicCardCount", 0);
+        stats.put("cardCount", memberStats.getCardCount());
+        stats.put("friendCount", memberStats.getFriendCount());
+        stats.put("publicCardCount", memberStats.getPublicCardCount());
         stats.put("memberId", member.getId());
         stats.put("nickname", member.getNickname());
         
@@ -147,6 +203,7 @@ public class MemberService {
     @Transactional
     public Member createMember(Member member) {
         Member savedMember = memberRepository.save(member);
+        nicknameIndex.index(savedMember);
         log.info("Created new member: {} with kakaoId: {}", savedMember.getId(), savedMember.getKakaoId());
         return savedMember;
     }
@@ -160,16 +217,26 @@ public class MemberService {
         }
         
         if (memberDetails.getProfileImage() != null) {
+            imageStoreService.replace(member.getProfileImage(), memberDetails.getProfileImage());
             member.updateProfileImage(memberDetails.getProfileImage());
         }
         
-        return memberRepository.save(member);
+        Member savedMember = memberRepository.save(member);
+        nicknameIndex.index(savedMember);
+        memberCache.invalidate(memberId);
+        return savedMember;
     }
 
     @Transactional
     public void deleteMember(UUID memberId) {
         Member member = findById(memberId);
+        memberStatsService.memberDeleted(memberId);
         memberRepository.delete(member);
+        imageStoreService.release(member.getProfileImage());
+        nicknameIndex.remove(memberId);
+        friendshipGraph.removeMember(memberId);
+        timelineService.memberDeleted(memberId);
+        memberCache.invalidate(memberId);
         log.info("Deleted member: {}", memberId);
     }
 
@@ -190,6 +257,8 @@ public class MemberService {
                 .kakaoId(member.getKakaoId())
                 .nickname(member.getNickname())
                 .profileImage(member.getProfileImage())
+                .profileImageSmall(ImageUtil.variantUrl(member.getProfileImage(), ImageVariant.SMALL))
+                .profileImageMedium(ImageUtil.variantUrl(member.getProfileImage(), ImageVariant.MEDIUM))
                 .friendCode(member.getFriendCode())
                 .isActive(member.getIsActive())
                 .createdAt(member.getCreatedAt())
@@ -0,0 +1,131 @@
+package com.voin.service;
+
+import com.voin.config.DatabaseDialect;
+import com.voin.entity.MemberStats;
+import com.voin.repository.CardRepository;
+import com.voin.repository.FriendRepository;
+import com.voin.repository.MemberStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * 회원 통계 읽기 모델(member_stats) 관리 서비스
+ *
+ * 카드/친구 변경 시점에 증감만 반영하고, 조회는 PK 조회 한 번으로 처리합니다.
+ * 통계 행이 아직 없는 회원은 처음 필요할 때 COUNT 로 한 번 계산해 만듭니다.
+ * (같은 트랜잭션의 변경은 자동 flush 되어 COUNT 에 이미 포함되므로 증감을 따로 더하지 않음)
+ * 처음 만드는 요청이 동시에 들어와도 실패하지 않도록 upsert 로 만들고, 먼저 만든 쪽이 있으면 증감만 더합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MemberStatsService {
+
+    private final MemberStatsRepository memberStatsRepository;
+    private final CardRepository cardRepository;
+    private final FriendRepository friendRepository;
+    private final DatabaseDialect databaseDialect;
+
+    /**
+     * 회원 통계를 조회합니다
+     */
+    @Transactional
+    public MemberStats getStats(UUID memberId) {
+        return memberStatsRepository.findById(memberId).orElseGet(() -> {
+            initialize(memberId, 0, 0, 0);
+            return memberStatsRepository.findById(memberId).orElseThrow();
+        });
+    }
+
+    /**
+     * 카드가 생성되었을 때
+     */
+    @Transactional
+    public void cardsCreated(UUID ownerId, int count, int publicCount) {
+        adjust(ownerId, count, publicCount, 0);
+    }
+
+    /**
+     * 카드가 삭제되었을 때
+     */
+    @Transactional
+    public void cardDeleted(UUID ownerId, boolean wasPublic) {
+        adjust(ownerId, -1, wasPublic ? -1 : 0, 0);
+    }
+
+    /**
+     * 카드 공개 여부가 바뀌었을 때
+     */
+    @Transactional
+    public void visibilityChanged(UUID ownerId, boolean nowPublic) {
+        adjust(ownerId, 0, nowPublic ? 1 : -1, 0);
+    }
+
+    /**
+     * 친구 관계가 맺어졌을 때
+     */
+    @Transactional
+    public void friendshipAdded(UUID memberId1, UUID memberId2) {
+        adjust(memberId1, 0, 0, 1);
+        adjust(memberId2, 0, 0, 1);
+    }
+
+    /**
+     * 친구 관계가 끊어졌을 때
+     */
+    @Transactional
+    public void friendshipRemoved(UUID memberId1, UUID memberId2) {
+        adjust(memberId1, 0, 0, -1);
+        adjust(memberId2, 0, 0, -1);
+    }
+
+    /**
+     * 회원 탈퇴 시 통계 행을 제거하고, 함께 지워지는 친구 관계/카드만큼 다른 회원의 통계를 줄입니다
+     * 친구 관계와 카드는 DB CASCADE 로 지워지므로 회원을 삭제하기 전에 호출해야 합니다.
+     * (통계 행이 아직 없는 회원은 나중에 COUNT 로 초기화되므로 건너뜀)
+     */
+    @Transactional
+    public void memberDeleted(UUID memberId) {
+        for (UUID friendId : friendRepository.findAcceptedFriendIds(memberId)) {
+            memberStatsRepository.increment(friendId, 0, 0, -1);
+        }
+        for (Object[] row : cardRepository.countCardsRemovedWithMember(memberId)) {
+            memberStatsRepository.increment((UUID) row[0],
+                    -((Number) row[1]).intValue(), -((Number) row[2]).intValue(), 0);
+        }
+        if (memberStatsRepository.existsById(memberId)) {
+            memberStatsRepository.deleteById(memberId);
+        }
+    }
+
+    private void adjust(UUID memberId, int cardDelta, int publicCardDelta, int friendDelta) {
+        int updated = memberStatsRepository.increment(memberId, cardDelta, publicCardDelta, friendDelta);
+        if (updated == 0) {
+            initialize(memberId, cardDelta, publicCardDelta, friendDelta);
+        }
+    }
+
+    /**
+     * COUNT 로 통계 행을 만듭니다 (그사이 다른 트랜잭션이 만들었으면 증감만 더함)
+     */
+    private void initialize(UUID memberId, int cardDelta, int publicCardDelta, int friendDelta) {
+        Object[] cardCounts = cardRepository.countCardsByOwnerId(memberId).get(0);
+        int cardCount = ((Number) cardCounts[0]).intValue();
+        int publicCardCount = ((Number) cardCounts[1]).intValue();
+        int friendCount = (int) friendRepository.countAcceptedFriends(memberId);
+        if (databaseDialect.isPostgres()) {
+            memberStatsRepository.initializeOrIncrement(memberId, cardCount, publicCardCount, friendCount,
+                    cardDelta, publicCardDelta, friendDelta);
+        } else {
+            memberStatsRepository.initializeOrIncrementByMerge(memberId, cardCount, publicCardCount, friendCount,
+                    cardDelta, publicCardDelta, friendDelta);
+        }
+        log.info("Member stats initialized: memberId={}, cards={}, publicCards={}, friends={}",
+                memberId, cardCount, publicCardCount, friendCount);
+    }
+}
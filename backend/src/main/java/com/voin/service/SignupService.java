@@ -7,14 +7,21 @@ import com.voin.dto.response.SignupResponse;
 import com.voin.dto.response.KakaoUserResponse;
 import com.voin.entity.Member;
 import com.voin.repository.MemberRepository;
-import com.voin.util.FriendCodeGenerator;
+import com.voin.search.NicknameIndex;
+import com.voin.util.FriendCodePool;
 import com.voin.util.ImageUtil;
 import com.voin.util.NicknameValidator;
 // import com.voin.util.JwtUtil; // JWT 임시 비활성화
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.Map;
 
@@ -26,9 +33,19 @@ public class SignupService {
 
     private final KakaoAuthService kakaoAuthService;
     private final MemberRepository memberRepository;
-    private final FriendCodeGenerator friendCodeGenerator;
+    private final FriendCodePool friendCodePool;
+    private final NicknameIndex nicknameIndex;
     private final ImageUtil imageUtil;
+    private final ImageStoreService imageStoreService;
     private final NicknameValidator nicknameValidator;
+    private final PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate signupTransaction;
+
+    @PostConstruct
+    void initSignupTransaction() {
+        signupTransaction = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 카카오 로그인 후 회원가입 프로세스 시작
@@ -113,7 +130,24 @@ public class SignupService {
     /**
      * 프로필 이미지 설정 및 회원가입 완료
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SignupResponse setProfileImageAndComplete(ProfileImageSettingRequest request) {
+        return setProfileImageAndComplete(request, null);
+    }
+
+    /**
+     * 프로필 이미지 설정 및 회원가입 완료 (multipart 이미지 업로드)
+     * imageFile 이 있으면 base64 데이터 대신 스트리밍으로 저장합니다.
+     * 발급한 친구 코드를 그사이 다른 회원이 먼저 저장했으면 가입 트랜잭션 전체를 다른 코드로 다시 실행합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SignupResponse setProfileImageAndComplete(ProfileImageSettingRequest request, MultipartFile imageFile) {
+        return friendCodePool.claimAndSave(friendCode ->
+                signupTransaction.execute(status -> completeSignup(request, imageFile, friendCode)));
+    }
+
+    private SignupResponse completeSignup(ProfileImageSettingRequest request, MultipartFile imageFile,
+                                          String friendCode) {
         try {
             // accessToken으로 카카오 사용자 정보 조회
             Map<String, Object> userInfo = kakaoAuthService.getUserInfo(request.getAccessToken());
@@ -144,37 +178,35 @@ public class SignupService {
             try {
                 if (request.getUseKakaoProfileImage()) {
                     finalProfileImage = kakaoProfileImage;
+                } else if (request.getUseFileUpload() && imageFile != null) {
+                    finalProfileImage = imageStoreService.store(imageFile);
                 } else if (request.getUseFileUpload() && request.getBase64ImageData() != null) {
                     // Base64 이미지 업로드 처리
                     if (!imageUtil.isValidImageFile(request.getFileName())) {
                         throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다. (지원 형식: jpg, jpeg, png, gif)");
                     }
-                    finalProfileImage = imageUtil.saveBase64Image(request.getBase64ImageData(), request.getFileName());
+                    finalProfileImage = imageStoreService.storeBase64(request.getBase64ImageData(), request.getFileName());
                 } else {
                     finalProfileImage = request.getProfileImageUrl();
+                    imageStoreService.retain(finalProfileImage);
                 }
             } catch (Exception e) {
                 log.error("프로필 이미지 처리 중 오류 발생: {}", e.getMessage());
                 throw new RuntimeException("프로필 이미지 처리 중 오류가 발생했습니다: " + e.getMessage());
             }
 
-            // 친구 코드 생성
-            String friendCode = friendCodeGenerator.generate();
-            log.info("친구 코드 생성: {}", friendCode);
+            log.info("회원 정보 저장 시작 - 카카오ID: {}, 닉네임: {}, 프로필이미지: {}", 
+                    kakaoId, finalNickname, finalProfileImage);
 
-            // 회원 정보 저장
-            Member member = Member.builder()
+            // 회원 정보 저장 (친구 코드 UNIQUE 위반이 여기서 드러나도록 바로 flush)
+            Member savedMember = memberRepository.saveAndFlush(Member.builder()
                     .kakaoId(kakaoId)
                     .nickname(finalNickname)
                     .profileImage(finalProfileImage)
                     .friendCode(friendCode)
                     .isActive(true)
-                    .build();
-
-            log.info("회원 정보 저장 시작 - 카카오ID: {}, 닉네임: {}, 프로필이미지: {}", 
-                    kakaoId, finalNickname, finalProfileImage);
-
-            Member savedMember = memberRepository.save(member);
+                    .build());
+            nicknameIndex.index(savedMember);
             
             log.info("회원 정보 저장 완료 - 회원ID: {}, 닉네임: {}, 친구코드: {}", 
                     savedMember.getId(), savedMember.getNickname(), savedMember.getFriendCode());
@@ -195,6 +227,9 @@ public class SignupService {
                     .jwtToken(tempToken)
                     .build();
 
+        } catch (DataIntegrityViolationException e) {
+            // 친구 코드 충돌이면 claimAndSave 가 다른 코드로 다시 시도
+            throw e;
         } catch (Exception e) {
             log.error("프로필 이미지 설정 및 회원가입 완료 처리 실패: {}", e.getMessage());
             throw new RuntimeException("회원가입을 완료할 수 없습니다: " + e.getMessage());
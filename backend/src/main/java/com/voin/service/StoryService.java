@@ -5,11 +5,10 @@ import com.voin.dto.request.StoryUpdateRequest;
 import com.voin.dto.response.StoryResponse;
 import com.voin.entity.Member;
 import com.voin.entity.Story;
-import com.voin.repository.MemberRepository;
 import com.voin.repository.StoryRepository;
+import com.voin.security.CurrentMemberResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,15 +23,13 @@ import java.util.stream.Collectors;
 public class StoryService {
 
     private final StoryRepository storyRepository;
-    private final MemberRepository memberRepository;
+    private final CurrentMemberResolver currentMemberResolver;
 
     /**
-     * 현재 로그인한 사용자 정보 가져오기
+     * 현재 로그인한 사용자 정보 가져오기 (요청당 한 번 조회, CurrentMemberResolver 참고)
      */
     private Member getCurrentMember() {
-        String memberId = SecurityContextHolder.getContext().getAuthentication().getName();
-        return memberRepository.findById(UUID.fromString(memberId))
-                .orElseThrow(() -> new RuntimeException("로그인한 사용자를 찾을 수 없습니다."));
+        return currentMemberResolver.currentMember();
     }
 
     /**
@@ -0,0 +1,313 @@
+package com.voin.service;
+
+import com.voin.config.DatabaseDialect;
+import com.voin.constant.FriendStatus;
+import com.voin.dto.response.CursorPageResponse;
+import com.voin.dto.response.FriendCardResponse;
+import com.voin.entity.Card;
+import com.voin.entity.TimelineEntry;
+import com.voin.graph.FriendshipGraph;
+import com.voin.repository.CardRepository;
+import com.voin.repository.FriendRepository;
+import com.voin.repository.SystemMarkerRepository;
+import com.voin.repository.TimelineEntryRepository;
+import com.voin.util.CardCursor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 친구 타임라인 서비스 (fan-out-on-write)
+ *
+ * 카드가 공개되는 시점에 작성자의 친구 타임라인마다 카드 ID 를 미리 기록해 두고,
+ * 피드 조회는 내 타임라인을 (card_created_at, card_id) 순으로 잘라 읽기만 합니다.
+ * 친구 수나 카드 누적량과 관계없이 조회 비용이 페이지 크기에 비례합니다.
+ *
+ * - 카드 공개/비공개 전환, 삭제 시 CardService 가 publish / retract 를 호출합니다.
+ * - 친구 수락 시 서로의 최근 공개 카드를 백필하고, 친구 삭제 시 서로의 카드를 제거합니다.
+ * - 회원 탈퇴 시 그 회원의 타임라인과 다른 타임라인에 펼쳐진 그 회원의 카드를 제거합니다.
+ * - 항목은 이미 있으면 건너뛰는 upsert 로 넣어 공개와 백필이 겹쳐도 실패하지 않습니다.
+ *   (PostgreSQL 은 INSERT ... ON CONFLICT DO NOTHING, 그 밖의 DB 는 표준 MERGE)
+ * - 항목을 받은 회원을 모아 두었다가 주기적으로 MAX_TIMELINE_SIZE 개를 넘은 타임라인만 잘라냅니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TimelineService {
+
+    private static final int MAX_TIMELINE_SIZE = 500;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String INITIALIZED_MARKER = "timeline-initialized";
+
+    private static final int TRIM_BATCH_SIZE = 500;
+
+    // 공개와 친구 백필이 같은 카드를 동시에 넣어도 uk_timeline_member_card 위반으로 실패하지 않도록
+    private static final String INSERT_SQL =
+            "INSERT INTO timeline_entries (id, member_id, author_id, card_id, card_created_at, created_at, updated_at) " +
+            "VALUES (nextval('timeline_entries_id_seq'), ?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) " +
+            "ON CONFLICT (member_id, card_id) DO NOTHING";
+
+    // INSERT_SQL 의 표준 MERGE 버전 (PostgreSQL 이 아닌 DB, 예: H2)
+    private static final String MERGE_SQL =
+            "MERGE INTO timeline_entries t " +
+            "USING (VALUES (CAST(? AS UUID), CAST(? AS UUID), CAST(? AS BIGINT), CAST(? AS TIMESTAMP))) " +
+            "AS s (member_id, author_id, card_id, card_created_at) " +
+            "ON t.member_id = s.member_id AND t.card_id = s.card_id " +
+            "WHEN NOT MATCHED THEN INSERT (id, member_id, author_id, card_id, card_created_at, created_at, updated_at) " +
+            "VALUES (NEXT VALUE FOR timeline_entries_id_seq, s.member_id, s.author_id, s.card_id, s.card_created_at, " +
+            "CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)";
+
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final FriendRepository friendRepository;
+    private final FriendshipGraph friendshipGraph;
+    private final CardRepository cardRepository;
+    private final SystemMarkerRepository systemMarkerRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabaseDialect databaseDialect;
+
+    // 항목을 받아 길이를 확인해야 하는 회원 (다음 trimTimelines 에서 처리)
+    private final Set<UUID> pendingTrim = ConcurrentHashMap.newKeySet();
+
+    // === 쓰기 (fan-out) ===
+
+    /**
+     * 공개 카드를 작성자의 모든 친구 타임라인에 추가합니다
+     */
+    @Transactional
+    public void publish(Card card) {
+        publishAll(List.of(card));
+    }
+
+    /**
+     * 공개 카드 여러 장을 작성자별로 묶어 친구 타임라인에 추가합니다 (배치 INSERT)
+     */
+    @Transactional
+    public void publishAll(List<Card> cards) {
+        Map<UUID, List<Card>> cardsByOwner = cards.stream()
+                .filter(Card::isPublic)
+                .collect(Collectors.groupingBy(card -> card.getOwner().getId()));
+
+        List<TimelineEntry> entries = new ArrayList<>();
+        cardsByOwner.forEach((ownerId, ownerCards) -> {
+            List<UUID> friendIds = friendshipGraph.friendIdsOf(ownerId);
+            for (UUID friendId : friendIds) {
+                for (Card card : ownerCards) {
+                    entries.add(TimelineEntry.of(friendId, ownerId, card.getId(), cardCreatedAt(card)));
+                }
+            }
+        });
+
+        if (!entries.isEmpty()) {
+            insert(entries);
+            log.debug("Timeline fan-out: {} entries", entries.size());
+        }
+    }
+
+    /**
+     * 모든 타임라인에서 카드를 제거합니다 (비공개 전환, 삭제)
+     */
+    @Transactional
+    public void retract(Long cardId) {
+        timelineEntryRepository.deleteByCardId(cardId);
+    }
+
+    /**
+     * 새로 친구가 된 두 회원의 타임라인에 서로의 최근 공개 카드를 채워 넣습니다
+     */
+    @Transactional
+    public void backfill(UUID memberId1, UUID memberId2) {
+        List<TimelineEntry> entries = new ArrayList<>();
+        entries.addAll(recentEntries(memberId1, memberId2));
+        entries.addAll(recentEntries(memberId2, memberId1));
+        if (!entries.isEmpty()) {
+            insert(entries);
+        }
+        log.info("Timeline backfilled: {} <-> {}, {} entries", memberId1, memberId2, entries.size());
+    }
+
+    /**
+     * 친구 관계가 끊긴 두 회원의 타임라인에서 서로의 카드를 제거합니다
+     */
+    @Transactional
+    public void unlink(UUID memberId1, UUID memberId2) {
+        timelineEntryRepository.deleteByMemberIdAndAuthorId(memberId1, memberId2);
+        timelineEntryRepository.deleteByMemberIdAndAuthorId(memberId2, memberId1);
+    }
+
+    /**
+     * 탈퇴한 회원의 타임라인과, 친구 타임라인에 펼쳐진 그 회원의 카드를 제거합니다
+     * (timeline_entries 는 회원을 ID 로만 참조하므로 CASCADE 되지 않음)
+     */
+    @Transactional
+    public void memberDeleted(UUID memberId) {
+        timelineEntryRepository.deleteByMemberIdOrAuthorId(memberId);
+    }
+
+    // === 조회 ===
+
+    /**
+     * 회원의 친구 타임라인을 커서 기반으로 조회합니다
+     * @param memberId 타임라인 주인 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (1~100)
+     */
+    public CursorPageResponse<FriendCardResponse> getTimeline(UUID memberId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        CardCursor decoded = CardCursor.decode(cursor);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<TimelineEntry> entries = decoded == null
+                ? timelineEntryRepository.findTimeline(memberId, limit)
+                : timelineEntryRepository.findTimelineAfter(memberId, decoded.createdAt(), decoded.id(), limit);
+
+        boolean hasNext = entries.size() > pageSize;
+        if (hasNext) {
+            entries = entries.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            TimelineEntry last = entries.get(entries.size() - 1);
+            nextCursor = new CardCursor(last.getCardCreatedAt(), last.getCardId()).encode();
+        }
+
+        return CursorPageResponse.<FriendCardResponse>builder()
+                .content(loadCards(entries))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageSize)
+                .build();
+    }
+
+    /**
+     * 회원의 친구 타임라인 전체(최대 MAX_TIMELINE_SIZE 개)를 조회합니다
+     */
+    public List<FriendCardResponse> getTimeline(UUID memberId) {
+        return loadCards(timelineEntryRepository.findTimeline(memberId, PageRequest.of(0, MAX_TIMELINE_SIZE)));
+    }
+
+    // === 유지 보수 ===
+
+    /**
+     * 기존 친구 관계로 타임라인을 한 번 채웁니다 (최초 배포 시)
+     * 완료 표시를 남긴 인스턴스만 실행하므로 재시작하거나 여러 인스턴스가 떠도 다시 하지 않습니다.
+     * 표시 도입 전에 이미 채워진 타임라인은 그대로 둡니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeOnce() {
+        int claimed = databaseDialect.isPostgres()
+                ? systemMarkerRepository.claim(INITIALIZED_MARKER)
+                : systemMarkerRepository.claimByMerge(INITIALIZED_MARKER);
+        if (claimed == 0 || timelineEntryRepository.count() > 0) {
+            return;
+        }
+        List<Object[]> pairs = friendRepository.findPairsByStatus(FriendStatus.ACCEPTED);
+        for (Object[] pair : pairs) {
+            backfill((UUID) pair[0], (UUID) pair[1]);
+        }
+        log.info("Timelines initialized from {} friendships", pairs.size());
+    }
+
+    /**
+     * 항목을 받은 회원 중 타임라인이 MAX_TIMELINE_SIZE 개를 넘은 회원만 잘라냅니다
+     * 공개할 때마다 모든 친구의 타임라인을 세지 않도록 모아서 처리하며,
+     * 그 사이 잠시 최대 길이를 넘더라도 조회는 페이지 단위라 영향이 없습니다.
+     */
+    @Scheduled(fixedDelay = 5 * 60 * 1000, initialDelay = 5 * 60 * 1000)
+    @Transactional
+    public void trimTimelines() {
+        if (pendingTrim.isEmpty()) {
+            return;
+        }
+        List<UUID> memberIds = new ArrayList<>(pendingTrim);
+        memberIds.forEach(pendingTrim::remove);
+
+        int trimmed = 0;
+        for (int from = 0; from < memberIds.size(); from += TRIM_BATCH_SIZE) {
+            List<UUID> batch = memberIds.subList(from, Math.min(from + TRIM_BATCH_SIZE, memberIds.size()));
+            for (UUID memberId : timelineEntryRepository.findMemberIdsExceeding(batch, MAX_TIMELINE_SIZE)) {
+                trimmed += trim(memberId);
+            }
+        }
+        if (trimmed > 0) {
+            log.info("Trimmed {} timeline entries ({} members checked)", trimmed, memberIds.size());
+        }
+    }
+
+    /**
+     * 최신 MAX_TIMELINE_SIZE 번째 항목보다 오래된 항목을 지웁니다
+     */
+    private int trim(UUID memberId) {
+        List<TimelineEntry> oldestKept = timelineEntryRepository.findTimeline(memberId,
+                PageRequest.of(MAX_TIMELINE_SIZE - 1, 1));
+        if (oldestKept.isEmpty()) {
+            return 0;
+        }
+        TimelineEntry cutoff = oldestKept.get(0);
+        return timelineEntryRepository.deleteOlderThan(memberId, cutoff.getCardCreatedAt(), cutoff.getCardId());
+    }
+
+    /**
+     * 항목을 배치로 넣고 (이미 있는 카드는 건너뜀), 넣은 회원을 길이 확인 대상으로 표시합니다
+     */
+    private void insert(List<TimelineEntry> entries) {
+        String sql = databaseDialect.isPostgres() ? INSERT_SQL : MERGE_SQL;
+        jdbcTemplate.batchUpdate(sql, entries, entries.size(), (ps, entry) -> {
+            ps.setObject(1, entry.getMemberId());
+            ps.setObject(2, entry.getAuthorId());
+            ps.setLong(3, entry.getCardId());
+            ps.setTimestamp(4, Timestamp.valueOf(entry.getCardCreatedAt()));
+        });
+        entries.forEach(entry -> pendingTrim.add(entry.getMemberId()));
+    }
+
+    /**
+     * authorId 의 최근 공개 카드를 memberId 의 타임라인 항목으로 만듭니다
+     */
+    private List<TimelineEntry> recentEntries(UUID memberId, UUID authorId) {
+        return cardRepository.findRecentPublicCardKeys(authorId, PageRequest.of(0, MAX_TIMELINE_SIZE)).stream()
+                .map(row -> TimelineEntry.of(memberId, authorId, (Long) row[0], (LocalDateTime) row[1]))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 타임라인 순서를 유지하며 카드 정보를 한 번에 조회합니다
+     */
+    private List<FriendCardResponse> loadCards(List<TimelineEntry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        List<Long> cardIds = entries.stream().map(TimelineEntry::getCardId).toList();
+        Map<Long, Card> cardsById = cardRepository.findAllWithDetailsByIdIn(cardIds).stream()
+                .collect(Collectors.toMap(Card::getId, card -> card));
+
+        // 정리 전의 삭제/비공개 카드는 건너뜀
+        return cardIds.stream()
+                .map(cardsById::get)
+                .filter(card -> card != null && card.isPublic())
+                .map(FriendCardResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    private LocalDateTime cardCreatedAt(Card card) {
+        return card.getCreatedAt() != null ? card.getCreatedAt() : LocalDateTime.now();
+    }
+}
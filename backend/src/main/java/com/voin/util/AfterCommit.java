@@ -0,0 +1,39 @@
+package com.voin.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.locks.ReadWriteLock;
+
+/**
+ * 메모리 인덱스(닉네임 검색, 카드 검색, 친구 그래프)의 변경을 커밋된 데이터에만 반영하는 도우미
+ *
+ * 진행 중인 트랜잭션이 있으면 커밋 이후에, 없으면 즉시 쓰기 락을 잡고 변경을 실행합니다.
+ * (롤백된 변경이 인덱스에 남지 않도록)
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(ReadWriteLock lock, Runnable mutation) {
+        Runnable locked = () -> {
+            lock.writeLock().lock();
+            try {
+                mutation.run();
+            } finally {
+                lock.writeLock().unlock();
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    locked.run();
+                }
+            });
+        } else {
+            locked.run();
+        }
+    }
+}
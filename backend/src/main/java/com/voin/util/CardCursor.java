@@ -0,0 +1,45 @@
+package com.voin.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 공개 카드 피드의 커서 (createdAt, id)
+ *
+ * 클라이언트에는 Base64(URL-safe) 로 인코딩된 불투명한 문자열로 전달되며,
+ * 다음 페이지 조회 시 그대로 돌려받아 "이 카드보다 오래된 카드"를 조회하는 데 사용합니다.
+ */
+public record CardCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 커서를 불투명한 문자열로 인코딩합니다
+     */
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 문자열 커서를 디코딩합니다
+     * @param cursor 인코딩된 커서 (null 또는 빈 값이면 첫 페이지)
+     * @return 디코딩된 커서 (첫 페이지면 null)
+     */
+    public static CardCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            return new CardCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.voin.util;
+
+import com.voin.repository.MemberRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 미리 검증해 둔 친구 코드 풀
+ *
+ * 백그라운드에서 후보 코드를 묶음으로 만들고 IN 쿼리 한 번으로 기존 코드와의 충돌을 걸러 풀에 채워 둡니다.
+ * 가입 시에는 claim() 으로 큐에서 하나를 꺼내기만 하므로 DB 조회 없이 일정한 시간에 코드가 발급됩니다.
+ *
+ * 풀에 있거나 발급 후 아직 저장되지 않았을 수 있는 코드는 예약 상태로 두어 다시 만들어지지 않게 합니다.
+ * 코드는 풀을 채울 때만 DB 와 대조하므로 그사이 다른 인스턴스가 같은 코드를 저장했을 수 있습니다.
+ * members.friend_code 의 UNIQUE 제약이 최종 안전장치이고, claimAndSave() 가 충돌 시 다른 코드로 다시 저장합니다.
+ */
+@Slf4j
+@Component
+public class FriendCodePool {
+
+    private static final int TARGET_SIZE = 200;
+    private static final int LOW_WATERMARK = 50;
+    private static final int MAX_REFILL_ROUNDS = 5;
+    // 풀이 비었을 때 호출 스레드에서 직접 검증할 후보 수
+    private static final int DIRECT_CANDIDATES = 5;
+    private static final int MAX_SAVE_ATTEMPTS = 3;
+    private static final String UNIQUE_VIOLATION = "23505";
+    // 발급 후 이 시간이 지나면 저장됐든(DB 에서 걸러짐) 버려졌든 예약을 해제
+    private static final long CLAIM_HOLD_MILLIS = 10 * 60 * 1000L;
+
+    private final FriendCodeGenerator friendCodeGenerator;
+    private final MemberRepository memberRepository;
+    private final TaskExecutor refiller;
+
+    private final Queue<String> pool = new ConcurrentLinkedQueue<>();
+    private final Set<String> pooled = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> claimed = new ConcurrentHashMap<>();
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+
+    public FriendCodePool(FriendCodeGenerator friendCodeGenerator,
+                          MemberRepository memberRepository,
+                          @Qualifier("applicationTaskExecutor") TaskExecutor refiller) {
+        this.friendCodeGenerator = friendCodeGenerator;
+        this.memberRepository = memberRepository;
+        this.refiller = refiller;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        scheduleRefill();
+    }
+
+    /**
+     * 풀에서 친구 코드 하나를 꺼냅니다
+     * 풀이 비어 있으면 (시작 직후 등) 백그라운드 채우기를 기다리지 않고 후보 몇 개만 바로 검증해 발급합니다.
+     * @return 사용 가능한 친구 코드
+     */
+    public String claim() {
+        String code = pool.poll();
+        if (code != null) {
+            pooled.remove(code);
+            claimed.put(code, System.currentTimeMillis());
+        } else {
+            code = claimUnpooled();
+        }
+
+        if (pooled.size() < LOW_WATERMARK) {
+            scheduleRefill();
+        }
+        return code;
+    }
+
+    /**
+     * 친구 코드를 발급해 저장합니다
+     * 다른 회원이 먼저 같은 코드를 저장했으면 (friend_code UNIQUE 위반) 다른 코드로 다시 시도합니다.
+     * @param save 코드를 받아 회원을 저장하는 함수 (제약 위반이 이 안에서 드러나도록 flush 나 커밋까지 마쳐야 함)
+     */
+    public <T> T claimAndSave(Function<String, T> save) {
+        for (int attempt = 1; ; attempt++) {
+            String code = claim();
+            try {
+                return save.apply(code);
+            } catch (DataIntegrityViolationException e) {
+                if (attempt >= MAX_SAVE_ATTEMPTS || !isFriendCodeConflict(e)) {
+                    throw e;
+                }
+                log.warn("Friend code {} already taken, retrying with another code", code);
+            }
+        }
+    }
+
+    /**
+     * 현재 풀에 남은 코드 수
+     */
+    public int available() {
+        return pooled.size();
+    }
+
+    private void scheduleRefill() {
+        if (refillScheduled.compareAndSet(false, true)) {
+            try {
+                refiller.execute(() -> {
+                    try {
+                        refill();
+                    } catch (Exception e) {
+                        log.warn("Friend code pool refill failed: {}", e.getMessage());
+                    } finally {
+                        refillScheduled.set(false);
+                    }
+                });
+            } catch (TaskRejectedException e) {
+                // 풀이 가득 차면 다음 claim 에서 다시 시도 (그동안은 claimUnpooled 로 발급)
+                refillScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * 풀을 거치지 않고 후보 몇 개를 IN 쿼리 한 번으로 검증해 발급합니다 (refill 락을 잡지 않음)
+     */
+    private String claimUnpooled() {
+        for (int round = 0; round < MAX_REFILL_ROUNDS; round++) {
+            Set<String> candidates = new HashSet<>();
+            while (candidates.size() < DIRECT_CANDIDATES) {
+                String candidate = friendCodeGenerator.generate();
+                if (!pooled.contains(candidate) && !claimed.containsKey(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+            memberRepository.findExistingFriendCodes(candidates).forEach(candidates::remove);
+
+            for (String code : candidates) {
+                if (claimed.putIfAbsent(code, System.currentTimeMillis()) == null) {
+                    return code;
+                }
+            }
+        }
+        throw new RuntimeException("친구 코드를 발급할 수 없습니다.");
+    }
+
+    /**
+     * UNIQUE 위반(SQLState 23505)이고 friend_code 컬럼에 대한 것인지
+     * (PostgreSQL 은 제약 이름 members_friend_code_key, H2 는 컬럼명 FRIEND_CODE 로 알려줌)
+     */
+    private static boolean isFriendCodeConflict(DataIntegrityViolationException e) {
+        if (!(e.getMostSpecificCause() instanceof SQLException cause) || !UNIQUE_VIOLATION.equals(cause.getSQLState())) {
+            return false;
+        }
+        String message = cause.getMessage();
+        return message != null && message.toLowerCase(Locale.ROOT).contains("friend_code");
+    }
+
+    private synchronized void refill() {
+        long expiredBefore = System.currentTimeMillis() - CLAIM_HOLD_MILLIS;
+        claimed.values().removeIf(claimedAt -> claimedAt < expiredBefore);
+
+        int added = 0;
+        for (int round = 0; round < MAX_REFILL_ROUNDS && pooled.size() < TARGET_SIZE; round++) {
+            Set<String> candidates = new HashSet<>();
+            int wanted = TARGET_SIZE - pooled.size();
+            while (candidates.size() < wanted) {
+                String candidate = friendCodeGenerator.generate();
+                if (!pooled.contains(candidate) && !claimed.containsKey(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+
+            List<String> existing = memberRepository.findExistingFriendCodes(candidates);
+            existing.forEach(candidates::remove);
+
+            for (String code : candidates) {
+                pooled.add(code);
+                pool.offer(code);
+            }
+            added += candidates.size();
+        }
+        log.debug("Friend code pool refilled: +{} (available={})", added, pooled.size());
+    }
+}
@@ -1,17 +1,35 @@
 package com.voin.util;
 
+import com.voin.constant.ImageVariant;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Base64;
-import java.util.UUID;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 @Slf4j
 @Component
@@ -19,10 +37,43 @@ public class ImageUtil {
 
     // Ubuntu 서버의 고정 이미지 저장 경로
     private static final String IMAGE_STORAGE_PATH = "/home/ubuntu/voin/images/profiles";
+    private static final String IMAGE_URL_PREFIX = "/images/profiles/";
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final List<String> ORIGINAL_EXTENSIONS = List.of("jpg", "jpeg", "png", "gif");
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{64}");
+
+    // 파일명 → (크기, 수정 시간, ETag). 저장된 파일은 바뀌지 않으므로 해시는 파일당 한 번만 계산
+    private final Map<String, StoredETag> etagCache = new ConcurrentHashMap<>();
+
+    private record StoredETag(long size, long lastModified, String etag) {
+    }
+
+    /**
+     * 업로드된 이미지 파일(multipart)을 스트리밍으로 저장하고 URL을 반환
+     * 전체 내용을 메모리에 올리지 않고 64KB 버퍼로 디스크에 바로 씁니다.
+     */
+    public String saveImage(MultipartFile file) throws IOException {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("업로드된 이미지가 없습니다.");
+        }
+        if (!isValidImageFile(file.getOriginalFilename())) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다. (지원 형식: jpg, jpeg, png, gif)");
+        }
+        // 선언된 크기로 먼저 거르고, 실제 크기는 스트리밍 중에 다시 확인
+        if (file.getSize() > MAX_FILE_SIZE) {
+            throw new IllegalArgumentException("파일 크기는 5MB를 초과할 수 없습니다.");
+        }
+
+        String extension = StringUtils.getFilenameExtension(file.getOriginalFilename()).toLowerCase();
+        try (InputStream in = file.getInputStream()) {
+            return saveStream(in, extension);
+        }
+    }
 
     /**
      * Base64 이미지 데이터를 파일로 저장하고 URL을 반환
+     * (기존 JSON 업로드 호환용. 새 클라이언트는 multipart 업로드를 사용합니다)
      */
     public String saveBase64Image(String base64Data, String originalFileName) throws IOException {
         // Base64 데이터 검증
@@ -38,31 +89,114 @@ public class ImageUtil {
 
         // 파일 형식 추출 (예: data:image/jpeg)
         String fileType = parts[0].split("/")[1].split(";")[0];
-        
-        // 이미지 데이터 디코딩
-        byte[] imageData = Base64.getDecoder().decode(parts[1]);
-
-        // 파일 크기 검증
-        if (imageData.length > MAX_FILE_SIZE) {
-            throw new IllegalArgumentException("파일 크기는 5MB를 초과할 수 없습니다.");
+        String extension = StringUtils.getFilenameExtension(originalFileName);
+        if (extension == null) {
+            extension = fileType;
         }
 
+        // 디코딩된 byte[] 를 따로 만들지 않고 스트리밍으로 디코딩하며 저장
+        InputStream decoded = Base64.getDecoder().wrap(
+                new ByteArrayInputStream(parts[1].getBytes(StandardCharsets.US_ASCII)));
+        return saveStream(decoded, extension);
+    }
+
+    /**
+     * 입력 스트림을 NIO 채널로 임시 파일에 쓰면서 SHA-256 을 계산하고, 내용 해시를 파일명으로 저장합니다
+     * 쓰는 도중 5MB 를 넘으면 즉시 중단하고 임시 파일을 지웁니다.
+     * 같은 내용의 파일이 이미 있으면 임시 파일을 버리고 기존 파일의 수정 시간만 갱신합니다.
+     */
+    private String saveStream(InputStream in, String extension) throws IOException {
         // 업로드 디렉토리 생성
         createUploadDirectoryIfNotExists();
 
-        // 파일명 생성 (UUID + 원본 확장자)
-        String fileName = generateFileName(originalFileName, fileType);
-        String filePath = IMAGE_STORAGE_PATH + File.separator + fileName;
-        
-        // 파일 저장
-        try (FileOutputStream fos = new FileOutputStream(filePath)) {
-            fos.write(imageData);
+        Path temp = Files.createTempFile(Paths.get(IMAGE_STORAGE_PATH), "upload-", ".part");
+        MessageDigest digest = sha256();
+
+        try (ReadableByteChannel source = Channels.newChannel(in);
+             FileChannel destination = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+            long written = 0;
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                written += buffer.remaining();
+                if (written > MAX_FILE_SIZE) {
+                    throw new IllegalArgumentException("파일 크기는 5MB를 초과할 수 없습니다.");
+                }
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    destination.write(buffer);
+                }
+                buffer.clear();
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        String hash = HexFormat.of().formatHex(digest.digest());
+        Path existing = findByHash(hash);
+        if (existing != null) {
+            // 중복 업로드: 내용은 이미 있으므로 메타데이터만 갱신 (GC 유예 기간 재시작)
+            Files.deleteIfExists(temp);
+            Files.setLastModifiedTime(existing, FileTime.from(Instant.now()));
+            log.info("이미지 중복 업로드, 기존 파일 재사용: {}", existing);
+            return IMAGE_URL_PREFIX + existing.getFileName();
         }
 
-        log.info("이미지 파일 저장 완료: {}", filePath);
-        
+        String fileName = hash + "." + extension.toLowerCase();
+        Path target = Paths.get(IMAGE_STORAGE_PATH, fileName);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("이미지 파일 저장 완료: {}", target);
+
         // 상대 URL 반환 (DB에 저장될 경로)
-        return "/images/profiles/" + fileName;
+        return IMAGE_URL_PREFIX + fileName;
+    }
+
+    /**
+     * 같은 내용 해시로 저장된 원본 파일을 찾습니다 (확장자는 업로드마다 다를 수 있음)
+     */
+    private Path findByHash(String hash) {
+        for (String extension : ORIGINAL_EXTENSIONS) {
+            Path path = Paths.get(IMAGE_STORAGE_PATH, hash + "." + extension);
+            if (Files.isRegularFile(path)) {
+                return path;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 내용 해시로 저장된 원본과 썸네일 파일을 삭제합니다 (미참조 이미지 정리용)
+     * @param fileName 원본 파일명 (hash.ext)
+     * @param olderThan 이 시각 이후에 수정된 파일은 다시 업로드된 것으로 보고 남겨 둠
+     * @return 원본을 삭제했으면 true
+     */
+    public boolean deleteStoredImage(String fileName, Instant olderThan) throws IOException {
+        Path original = resolveStoredPath(IMAGE_URL_PREFIX + fileName);
+        if (original == null || !Files.isRegularFile(original)) {
+            return false;
+        }
+        if (!Files.getLastModifiedTime(original).toInstant().isBefore(olderThan)) {
+            return false;
+        }
+        for (ImageVariant variant : ImageVariant.values()) {
+            Files.deleteIfExists(original.resolveSibling(variantFileName(fileName, variant)));
+        }
+        Files.deleteIfExists(original);
+        etagCache.remove(fileName);
+        return true;
+    }
+
+    /**
+     * 이미지 URL 이 내용 해시로 저장된 원본이면 그 해시를 반환합니다
+     * @return SHA-256 (16진수 64자), 외부 URL 이나 이전 방식(UUID) 파일명이면 null
+     */
+    public static String contentHash(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(IMAGE_URL_PREFIX)) {
+            return null;
+        }
+        String base = StringUtils.stripFilenameExtension(imageUrl.substring(IMAGE_URL_PREFIX.length()));
+        return CONTENT_HASH.matcher(base).matches() ? base : null;
     }
 
     /**
@@ -77,14 +211,105 @@ public class ImageUtil {
     }
 
     /**
-     * 고유한 파일명 생성
+     * 로컬에 저장된 이미지 URL 을 실제 파일 경로로 변환합니다
+     * @return 파일 경로 (외부 URL 이거나 경로가 올바르지 않으면 null)
      */
-    private String generateFileName(String originalFileName, String fileType) {
-        String extension = StringUtils.getFilenameExtension(originalFileName);
-        if (extension == null) {
-            extension = fileType;
+    public Path resolveStoredPath(String imageUrl) {
+        if (imageUrl == null || !imageUrl.startsWith(IMAGE_URL_PREFIX)) {
+            return null;
+        }
+        String fileName = imageUrl.substring(IMAGE_URL_PREFIX.length());
+        if (fileName.isEmpty() || fileName.contains("/") || fileName.contains("\\") || fileName.contains("..")) {
+            return null;
+        }
+        return Paths.get(IMAGE_STORAGE_PATH, fileName);
+    }
+
+    /**
+     * 요청된 파일명을 실제로 내려줄 파일 경로로 변환합니다
+     * 썸네일(abc_s.jpg)이 아직 만들어지지 않았으면 원본(abc.png 등)으로 대체합니다.
+     * @return 파일 경로 (없거나 파일명이 올바르지 않으면 null)
+     */
+    public Path resolveServablePath(String fileName) {
+        Path path = resolveStoredPath(IMAGE_URL_PREFIX + fileName);
+        if (path == null || Files.isRegularFile(path)) {
+            return path;
+        }
+        for (ImageVariant variant : ImageVariant.values()) {
+            String suffix = "_" + variant.getSuffix() + ".jpg";
+            if (!fileName.endsWith(suffix)) {
+                continue;
+            }
+            String base = fileName.substring(0, fileName.length() - suffix.length());
+            for (String extension : ORIGINAL_EXTENSIONS) {
+                Path original = Paths.get(IMAGE_STORAGE_PATH, base + "." + extension);
+                if (Files.isRegularFile(original)) {
+                    return original;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 파일 내용의 SHA-256 해시로 만든 강한 ETag (예: "9f86d0...")
+     * 크기나 수정 시간이 바뀌지 않았으면 캐시된 값을 그대로 사용합니다.
+     */
+    public String strongETag(Path path, BasicFileAttributes attributes) throws IOException {
+        String key = path.getFileName().toString();
+        long size = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+
+        StoredETag cached = etagCache.get(key);
+        if (cached != null && cached.size() == size && cached.lastModified() == lastModified) {
+            return cached.etag();
+        }
+
+        // 내용 해시로 저장된 원본은 파일명이 곧 해시
+        String hash = contentHash(IMAGE_URL_PREFIX + key);
+        if (hash != null) {
+            return "\"" + hash + "\"";
+        }
+
+        MessageDigest digest = sha256();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        String etag = "\"" + HexFormat.of().formatHex(digest.digest()) + "\"";
+        etagCache.put(key, new StoredETag(size, lastModified, etag));
+        return etag;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
-        return UUID.randomUUID().toString() + "." + extension;
+    }
+
+    /**
+     * 원본 이미지 URL 에 대한 썸네일 URL (로컬 저장 이미지가 아니면 null)
+     * 썸네일은 비동기로 만들어지므로 아직 파일이 없을 수 있습니다.
+     */
+    public static String variantUrl(String imageUrl, ImageVariant variant) {
+        if (imageUrl == null || !imageUrl.startsWith(IMAGE_URL_PREFIX)) {
+            return null;
+        }
+        return IMAGE_URL_PREFIX + variantFileName(imageUrl.substring(IMAGE_URL_PREFIX.length()), variant);
+    }
+
+    /**
+     * 원본 파일명에 대한 썸네일 파일명 (abc.png → abc_s.jpg)
+     */
+    public static String variantFileName(String fileName, ImageVariant variant) {
+        String base = StringUtils.stripFilenameExtension(fileName);
+        return base + "_" + variant.getSuffix() + ".jpg";
     }
 
     /**
@@ -0,0 +1,36 @@
+package com.voin.util;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키로 동시에 들어온 비동기 호출을 하나로 합칩니다 (single-flight)
+ *
+ * 첫 요청만 실제 호출을 시작하고, 그 호출이 끝나기 전에 들어온 같은 키의 요청은
+ * 같은 결과(성공/실패 모두)를 나눠 받습니다. 호출이 끝나면 키를 지우므로 결과를 오래 들고 있지 않습니다.
+ * (완료된 결과의 재사용은 별도 캐시의 역할)
+ */
+public class SingleFlight<T> {
+
+    private final Map<String, Mono<T>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param key 합칠 기준 키 (예: 정규화된 입력의 해시)
+     * @param call 진행 중인 호출이 없을 때만 실행할 호출
+     */
+    public Mono<T> execute(String key, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> inFlight.computeIfAbsent(key, k -> call.get()
+                .doFinally(signal -> inFlight.remove(k))
+                .cache()));
+    }
+
+    /**
+     * 현재 진행 중인 호출 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
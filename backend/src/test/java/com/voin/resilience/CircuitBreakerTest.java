@@ -0,0 +1,113 @@
+package com.voin.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 30_000;
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final CircuitBreaker breaker = new CircuitBreaker(4, 2, 0.5, OPEN_MILLIS, now::get);
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 실패해도 열리지 않는다")
+    void staysClosedBeforeMinimumCalls() {
+        failOnce();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패 비율이 임계치를 넘으면 열리고 호출을 거절한다")
+    void opensAtFailureRateThreshold() {
+        succeedOnce();
+        failOnce();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("오래된 결과는 윈도우에서 밀려난다")
+    void slidesWindow() {
+        for (int i = 0; i < 4; i++) {
+            succeedOnce();
+        }
+        failOnce();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // 윈도우 4건 중 실패 2건 (누적으로 세면 6건 중 2건)
+        failOnce();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("열린 시간이 지나면 시험 호출 한 건만 통과시킨다")
+    void allowsSingleTrialWhenHalfOpen() {
+        open();
+        now.addAndGet(OPEN_MILLIS);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 성공하면 닫히고 이전 기록은 지워진다")
+    void closesAfterSuccessfulTrial() {
+        open();
+        now.addAndGet(OPEN_MILLIS);
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        failOnce();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 다시 열린다")
+    void reopensAfterFailedTrial() {
+        open();
+        now.addAndGet(OPEN_MILLIS);
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("시험 호출이 결과 없이 끝나면 다음 시험 호출을 허용한다")
+    void releasesTrialWhenIgnored() {
+        open();
+        now.addAndGet(OPEN_MILLIS);
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onIgnored();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private void open() {
+        failOnce();
+        failOnce();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void failOnce() {
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onFailure();
+    }
+
+    private void succeedOnce() {
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+    }
+}
@@ -0,0 +1,153 @@
+package com.voin.resilience;
+
+import com.voin.exception.GptRejectedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GptGuardTest {
+
+    private static final String ENDPOINT = "test";
+
+    @Test
+    @DisplayName("회원별 한도를 넘으면 GPT_001, 다른 회원은 영향받지 않는다")
+    void limitsPerClient() {
+        GptResilienceProperties.Policy policy = new GptResilienceProperties.Policy();
+        policy.setMemberBurst(2);
+        GptGuard guard = guard(policy);
+
+        guard.checkRateLimit(ENDPOINT, "member-a");
+        guard.checkRateLimit(ENDPOINT, "member-a");
+
+        assertRejected(() -> guard.checkRateLimit(ENDPOINT, "member-a"), "GPT_001");
+        guard.checkRateLimit(ENDPOINT, "member-b");
+    }
+
+    @Test
+    @DisplayName("엔드포인트 전체 한도를 넘으면 GPT_002")
+    void limitsGlobally() {
+        GptResilienceProperties.Policy policy = new GptResilienceProperties.Policy();
+        policy.setGlobalBurst(2);
+        GptGuard guard = guard(policy);
+
+        guard.checkRateLimit(ENDPOINT, "member-a");
+        guard.checkRateLimit(ENDPOINT, "member-b");
+
+        assertRejected(() -> guard.checkRateLimit(ENDPOINT, "member-c"), "GPT_002");
+    }
+
+    @Test
+    @DisplayName("거절된 요청의 새 키로는 다른 회원의 버킷을 LRU 에서 밀어낼 수 없다")
+    void rejectedClientsDoNotEvictBuckets() {
+        GptResilienceProperties.Policy policy = new GptResilienceProperties.Policy();
+        policy.setMemberBurst(2);
+        policy.setGlobalBurst(3);
+        GptGuard guard = guard(policy);
+
+        guard.checkRateLimit(ENDPOINT, "member-a");
+        guard.checkRateLimit(ENDPOINT, "member-a");
+        for (int i = 0; i < 20_000; i++) {
+            try {
+                guard.checkRateLimit(ENDPOINT, "ip:" + i);
+            } catch (GptRejectedException ignored) {
+                // 전체 한도에 막힘
+            }
+        }
+
+        assertRejected(() -> guard.checkRateLimit(ENDPOINT, "member-a"), "GPT_001");
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도가 차면 호출을 시작하지 않고 GPT_004, 취소되면 자리를 돌려준다")
+    void rejectsWhenBulkheadFullAndReleasesOnCancel() {
+        GptResilienceProperties.Policy policy = new GptResilienceProperties.Policy();
+        policy.setMaxConcurrentCalls(1);
+        GptGuard guard = guard(policy);
+        AtomicInteger calls = new AtomicInteger();
+
+        Disposable pending = guard.protect(ENDPOINT, () -> {
+            calls.incrementAndGet();
+            return Mono.never();
+        }).subscribe();
+
+        assertRejected(() -> guard.protect(ENDPOINT, () -> {
+            calls.incrementAndGet();
+            return Mono.just("ok");
+        }).block(), "GPT_004");
+        assertThat(calls).hasValue(1);
+
+        pending.dispose();
+        assertThat(guard.protect(ENDPOINT, () -> Mono.just("ok")).block()).isEqualTo("ok");
+        assertThat(metric(guard, "inFlight")).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 서킷 브레이커 실패로 세지 않는다")
+    void clientErrorsDoNotTripBreaker() {
+        GptGuard guard = guard(breakerPolicy());
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> guard.protect(ENDPOINT, () -> Mono.error(status(400))).block())
+                    .isInstanceOf(WebClientResponseException.class);
+        }
+
+        assertThat(metric(guard, "breakerState")).isEqualTo("CLOSED");
+        assertThat(metric(guard, "upstreamFailure")).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("5xx 가 이어지면 브레이커가 열리고 이후 호출은 시작하지 않고 GPT_003")
+    void serverErrorsOpenBreaker() {
+        GptGuard guard = guard(breakerPolicy());
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.protect(ENDPOINT, () -> Mono.error(status(503))).block())
+                    .isInstanceOf(WebClientResponseException.class);
+        }
+
+        AtomicInteger calls = new AtomicInteger();
+        assertRejected(() -> guard.protect(ENDPOINT, () -> {
+            calls.incrementAndGet();
+            return Mono.just("ok");
+        }).block(), "GPT_003");
+        assertThat(calls).hasValue(0);
+        assertThat(metric(guard, "breakerState")).isEqualTo("OPEN");
+    }
+
+    private static GptResilienceProperties.Policy breakerPolicy() {
+        GptResilienceProperties.Policy policy = new GptResilienceProperties.Policy();
+        policy.setBreakerWindowSize(4);
+        policy.setBreakerMinimumCalls(2);
+        return policy;
+    }
+
+    private static GptGuard guard(GptResilienceProperties.Policy policy) {
+        GptResilienceProperties properties = new GptResilienceProperties();
+        properties.getEndpoints().put(ENDPOINT, policy);
+        return new GptGuard(properties);
+    }
+
+    private static WebClientResponseException status(int status) {
+        return WebClientResponseException.create(status, "status " + status, HttpHeaders.EMPTY, new byte[0], null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object metric(GptGuard guard, String name) {
+        return ((Map<String, Object>) guard.metrics().get(ENDPOINT)).get(name);
+    }
+
+    private static void assertRejected(Runnable call, String code) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(GptRejectedException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(code));
+    }
+}
@@ -0,0 +1,51 @@
+package com.voin.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("처음에는 용량만큼 연속으로 허용하고 그다음은 거절한다")
+    void allowsBurstUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 1, now::get);
+
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+
+    @Test
+    @DisplayName("지난 시간만큼 토큰이 다시 찬다")
+    void refillsOverTime() {
+        TokenBucket bucket = new TokenBucket(1, 2, now::get);
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+
+        now.addAndGet(SECOND / 4);
+        assertThat(bucket.tryAcquire()).isFalse();
+
+        now.addAndGet(SECOND / 4);
+        assertThat(bucket.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 용량 이상으로 쌓이지 않는다")
+    void neverExceedsCapacity() {
+        TokenBucket bucket = new TokenBucket(2, 10, now::get);
+        now.addAndGet(60 * SECOND);
+
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isTrue();
+        assertThat(bucket.tryAcquire()).isFalse();
+    }
+}
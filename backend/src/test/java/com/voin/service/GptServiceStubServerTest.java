@@ -0,0 +1,189 @@
+package com.voin.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.voin.config.GptConfig;
+import com.voin.exception.GptRejectedException;
+import com.voin.resilience.GptGuard;
+import com.voin.resilience.GptResilienceProperties;
+import com.voin.search.KeywordPreClassifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 스텁 HTTP 서버를 OpenAI 대신 세워 WebClient 호출, 응답 파싱, 보호 계층을 함께 확인합니다
+ */
+class GptServiceStubServerTest {
+
+    private static final String REPLY = """
+            {"choices":[{"message":{"role":"assistant","content":"%s"}}]}
+            """;
+
+    @TempDir
+    Path cacheDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicReference<String> lastBody = new AtomicReference<>();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicReference<String> content = new AtomicReference<>();
+    private volatile CountDownLatch release = new CountDownLatch(0);
+
+    private HttpServer server;
+    private GptService gptService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/chat/completions", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+
+        GptConfig gptConfig = mock(GptConfig.class);
+        when(gptConfig.getModel()).thenReturn("stub-model");
+
+        GptClassifyPrompt prompt = mock(GptClassifyPrompt.class);
+        when(prompt.text()).thenReturn("system prompt");
+        when(prompt.version()).thenReturn("test-v1");
+        when(prompt.keywordOf(anyString())).thenAnswer(call ->
+                "용기".equals(call.getArgument(0)) ? "용기" : null);
+        when(prompt.categoryOf("용기")).thenReturn("도전");
+
+        GptResilienceProperties.Policy policy = new GptResilienceProperties.Policy();
+        policy.setBreakerWindowSize(4);
+        policy.setBreakerMinimumCalls(2);
+        GptResilienceProperties properties = new GptResilienceProperties();
+        properties.getEndpoints().put("classify", policy);
+
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+                .build();
+
+        gptService = new GptService(gptConfig, new GptResultCache(objectMapper, cacheDir.toString()),
+                webClient, new GptGuard(properties), objectMapper, mock(KeywordPreClassifier.class), prompt);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("JSON 모드로 요청하고 응답을 키워드 목록에 맞춰 파싱한다")
+    void classifiesWithJsonResponseFormat() throws Exception {
+        content.set("{\\\"category\\\":\\\"아무거나\\\",\\\"keyword\\\":\\\"용기\\\",\\\"summary\\\":\\\"발표를 해냈어요\\\"}");
+
+        Map<String, String> result = gptService.classifyValue("처음으로 발표를 자원했다").block();
+
+        assertThat(result).containsEntry("category", "도전")
+                .containsEntry("keyword", "용기")
+                .containsEntry("summary", "발표를 해냈어요");
+        var request = objectMapper.readTree(lastBody.get());
+        assertThat(request.path("model").asText()).isEqualTo("stub-model");
+        assertThat(request.path("response_format").path("type").asText()).isEqualTo("json_object");
+        assertThat(request.path("messages").path(1).path("content").asText()).isEqualTo("처음으로 발표를 자원했다");
+    }
+
+    @Test
+    @DisplayName("성공한 결과는 캐시해서 같은 입력은 다시 호출하지 않는다")
+    void cachesSuccessfulResult() throws IOException {
+        content.set("{\\\"keyword\\\":\\\"용기\\\",\\\"summary\\\":\\\"요약\\\"}");
+
+        gptService.classifyValue("같은 글").block();
+        assertThat(cachedFiles()).isEqualTo(1);
+
+        assertThat(gptService.classifyValue("같은 글").block()).containsEntry("keyword", "용기");
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 입력은 호출 하나를 공유한다")
+    void sharesConcurrentIdenticalCalls() throws Exception {
+        content.set("{\\\"keyword\\\":\\\"용기\\\",\\\"summary\\\":\\\"요약\\\"}");
+        release = new CountDownLatch(1);
+
+        CompletableFuture<Map<String, String>> first = gptService.classifyValue("동시 요청").toFuture();
+        CompletableFuture<Map<String, String>> second = gptService.classifyValue("동시 요청").toFuture();
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsEntry("keyword", "용기");
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsEntry("keyword", "용기");
+        assertThat(hits).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("목록에 없는 키워드는 오류 응답으로 돌려주고 캐시하지 않는다")
+    void rejectsUnknownKeyword() throws IOException {
+        content.set("{\\\"keyword\\\":\\\"없는키워드\\\",\\\"summary\\\":\\\"요약\\\"}");
+
+        Map<String, String> result = gptService.classifyValue("알 수 없는 글").block();
+
+        assertThat(result).containsKey("error").containsEntry("keyword", "");
+        assertThat(cachedFiles()).isZero();
+    }
+
+    @Test
+    @DisplayName("5xx 가 이어지면 브레이커가 열려 서버를 호출하지 않고 GPT_003 으로 거절한다")
+    void opensBreakerOnServerErrors() {
+        status.set(500);
+
+        assertThat(gptService.classifyValue("첫 번째").block()).containsKey("error");
+        assertThat(gptService.classifyValue("두 번째").block()).containsKey("error");
+
+        assertThatThrownBy(() -> gptService.classifyValue("세 번째").block())
+                .isInstanceOfSatisfying(GptRejectedException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo("GPT_003"));
+        assertThat(hits).hasValue(2);
+    }
+
+    private long cachedFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(cacheDir)) {
+            return files.filter(path -> path.toString().endsWith(".json")).count();
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        hits.incrementAndGet();
+        lastBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] body = (status.get() == 200 ? REPLY.formatted(content.get()) : "{\"error\":\"stub\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status.get(), body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.voin.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String> singleFlight = new SingleFlight<>();
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    @DisplayName("진행 중인 같은 키의 요청은 한 번만 호출하고 결과를 나눠 받는다")
+    void sharesInFlightCall() throws Exception {
+        Sinks.One<String> sink = Sinks.one();
+
+        CompletableFuture<String> first = singleFlight.execute("key", counted(sink)).toFuture();
+        CompletableFuture<String> second = singleFlight.execute("key", counted(sink)).toFuture();
+
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isEqualTo(1);
+
+        sink.tryEmitValue("result");
+        assertThat(first.get()).isEqualTo("result");
+        assertThat(second.get()).isEqualTo("result");
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패도 함께 기다리던 요청 모두에게 전달된다")
+    void sharesFailure() {
+        Sinks.One<String> sink = Sinks.one();
+
+        CompletableFuture<String> first = singleFlight.execute("key", counted(sink)).toFuture();
+        CompletableFuture<String> second = singleFlight.execute("key", counted(sink)).toFuture();
+        sink.tryEmitError(new IllegalStateException("boom"));
+
+        assertThatThrownBy(first::get).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(second::get).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(calls).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("끝난 호출의 결과는 들고 있지 않고 다음 요청은 새로 호출한다")
+    void doesNotCacheCompletedCalls() {
+        assertThat(singleFlight.execute("key", () -> Mono.fromSupplier(() -> "v" + calls.incrementAndGet())).block())
+                .isEqualTo("v1");
+        assertThat(singleFlight.execute("key", () -> Mono.fromSupplier(() -> "v" + calls.incrementAndGet())).block())
+                .isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("키가 다르면 따로 호출한다")
+    void separatesKeys() {
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+
+        singleFlight.execute("a", counted(first)).subscribe();
+        singleFlight.execute("b", counted(second)).subscribe();
+
+        assertThat(calls).hasValue(2);
+        assertThat(singleFlight.inFlightCount()).isEqualTo(2);
+    }
+
+    private Supplier<Mono<String>> counted(Sinks.One<String> sink) {
+        return () -> {
+            calls.incrementAndGet();
+            return sink.asMono();
+        };
+    }
+}
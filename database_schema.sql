@@ -44,6 +44,12 @@ CREATE TABLE IF NOT EXISTS stories (
     situation_context VARCHAR(100), -- 경험 돌아보기의 상황
     answer1 TEXT, -- 다단계 질문 1번 답변
     answer2 TEXT, -- 다단계 질문 2번 답변
+    classified_category VARCHAR(50), -- 분류된 장점 카테고리
+    classified_keyword VARCHAR(30), -- 분류된 장점 키워드
+    classified_summary VARCHAR(500), -- 분류와 함께 생성된 요약
+    classified_at TIMESTAMP WITH TIME ZONE,
+    classification_hash VARCHAR(64), -- 분류한 본문의 SHA-256
+    classification_prompt_version VARCHAR(40), -- 분류에 사용한 프롬프트 버전
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
 );
@@ -64,6 +70,8 @@ CREATE TABLE IF NOT EXISTS cards (
     created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
 );
+-- 카드 ID 는 pooled 시퀀스로 50개씩 할당합니다 (Card 엔티티의 allocationSize 와 일치해야 함)
+ALTER SEQUENCE cards_id_seq INCREMENT BY 50;
 
 -- 6. FRIENDS 테이블 (친구 관계)
 CREATE TABLE IF NOT EXISTS friends (
@@ -92,6 +100,64 @@ CREATE TABLE IF NOT EXISTS member_coins (
     CONSTRAINT unique_member_coin UNIQUE (member_id, coin_id)
 );
 
+-- 8. TIMELINE_ENTRIES 테이블 (친구 피드 fan-out-on-write)
+-- 카드가 공개될 때 작성자의 친구마다 한 줄씩 기록됩니다. 회원당 최대 500개까지 유지합니다.
+CREATE TABLE IF NOT EXISTS timeline_entries (
+    id BIGSERIAL PRIMARY KEY,
+    member_id UUID NOT NULL,  -- 타임라인 주인
+    author_id UUID NOT NULL,  -- 카드 작성자 (친구)
+    card_id BIGINT NOT NULL,
+    card_created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT uk_timeline_member_card UNIQUE (member_id, card_id)
+);
+ALTER SEQUENCE timeline_entries_id_seq INCREMENT BY 50;
+
+-- 9. MEMBER_STATS 테이블 (회원 통계 읽기 모델)
+-- 카드/친구 변경 시 증감으로 갱신되며, 내 통계 조회는 PK 조회 한 번으로 처리합니다.
+CREATE TABLE IF NOT EXISTS member_stats (
+    member_id UUID PRIMARY KEY REFERENCES members(id) ON DELETE CASCADE,
+    card_count INTEGER NOT NULL DEFAULT 0,
+    public_card_count INTEGER NOT NULL DEFAULT 0,
+    friend_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 이미지 파일 메타데이터 테이블 (내용 해시 기반 저장소, 참조 수)
+CREATE TABLE IF NOT EXISTS image_blobs (
+    hash VARCHAR(64) PRIMARY KEY,
+    file_name VARCHAR(80) NOT NULL,
+    size BIGINT NOT NULL,
+    ref_count INTEGER NOT NULL DEFAULT 0,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 스토리 장점 분류 작업 큐 (스토리 저장 시 등록, 워커가 SKIP LOCKED 로 가져가 처리)
+CREATE TABLE IF NOT EXISTS classification_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    story_id BIGINT NOT NULL,
+    member_id UUID NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING', -- PENDING, RUNNING, DONE, FAILED
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_run_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    locked_until TIMESTAMP WITH TIME ZONE,
+    interactive BOOLEAN NOT NULL DEFAULT TRUE, -- 사용자가 결과를 기다리는 작업 (백필은 FALSE)
+    last_error VARCHAR(500),
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 한 번만 실행하는 초기화 작업 완료 표시 (예: 타임라인 최초 채우기)
+CREATE TABLE IF NOT EXISTS system_markers (
+    name VARCHAR(100) PRIMARY KEY,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
 -- 인덱스 생성
 CREATE INDEX IF NOT EXISTS idx_members_kakao_id ON members(kakao_id);
 CREATE INDEX IF NOT EXISTS idx_members_friend_code ON members(friend_code);
@@ -102,9 +168,33 @@ CREATE INDEX IF NOT EXISTS idx_stories_created_at ON stories(created_at);
 CREATE INDEX IF NOT EXISTS idx_cards_owner_id ON cards(owner_id);
 CREATE INDEX IF NOT EXISTS idx_cards_creator_id ON cards(creator_id);
 CREATE INDEX IF NOT EXISTS idx_cards_story_id ON cards(story_id);
+CREATE INDEX IF NOT EXISTS idx_cards_public_created_id ON cards(is_public, created_at, id);
 CREATE INDEX IF NOT EXISTS idx_friends_requester_id ON friends(requester_id);
 CREATE INDEX IF NOT EXISTS idx_friends_receiver_id ON friends(receiver_id);
 CREATE INDEX IF NOT EXISTS idx_member_coins_member_id ON member_coins(member_id);
+CREATE INDEX IF NOT EXISTS idx_timeline_member_created_card ON timeline_entries(member_id, card_created_at DESC, card_id DESC);
+CREATE INDEX IF NOT EXISTS idx_timeline_card_id ON timeline_entries(card_id);
+CREATE INDEX IF NOT EXISTS idx_timeline_member_author ON timeline_entries(member_id, author_id);
+CREATE INDEX IF NOT EXISTS idx_image_blobs_unreferenced ON image_blobs(updated_at) WHERE ref_count <= 0;
+CREATE INDEX IF NOT EXISTS idx_classification_jobs_story_id ON classification_jobs(story_id);
+CREATE INDEX IF NOT EXISTS idx_classification_jobs_runnable ON classification_jobs(status, next_run_at) WHERE status IN ('PENDING', 'RUNNING');
+
+-- 공개 카드 내용 검색용 trigram 인덱스 (voin.search.engine=postgres 일 때 사용)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_cards_content_trgm ON cards USING gin (content gin_trgm_ops) WHERE is_public = TRUE;
+
+-- 1~2글자 검색어용 unigram/bigram 인덱스 (trigram 으로는 거를 수 없는 "꿈", "용기" 같은 검색어)
+CREATE OR REPLACE FUNCTION card_content_grams(content TEXT)
+RETURNS TEXT[] AS $$
+    SELECT COALESCE(array_agg(DISTINCT gram), '{}')
+    FROM (
+        SELECT substr(lower(content), i, 1) AS gram FROM generate_series(1, char_length(content)) AS i
+        UNION ALL
+        SELECT substr(lower(content), i, 2) FROM generate_series(1, char_length(content) - 1) AS i
+    ) grams
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
+
+CREATE INDEX IF NOT EXISTS idx_cards_content_grams ON cards USING gin (card_content_grams(content)) WHERE is_public = TRUE;
 
 -- 트리거 함수: updated_at 자동 업데이트
 CREATE OR REPLACE FUNCTION update_updated_at_column()